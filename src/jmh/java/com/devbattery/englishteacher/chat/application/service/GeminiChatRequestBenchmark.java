@@ -0,0 +1,82 @@
+package com.devbattery.englishteacher.chat.application.service;
+
+import com.devbattery.englishteacher.chat.domain.ChatMessage;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 대화 문맥 길이별 Gemini 채팅 요청 본문 직렬화 비용 (기존 createRequestBodyWithHistory를 대체한 GeminiChatRequest 기준)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GeminiChatRequestBenchmark {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    @Param({"4", "20", "50", "200"})
+    private int historySize;
+
+    @Param({"false", "true"})
+    private boolean withSummary;
+
+    private GeminiChatRequest request;
+    private GeminiChatRequest fragmentRequest;
+    private ByteArrayOutputStream buffer;
+
+    @Setup
+    public void setUp() {
+        List<ChatMessage> messages = new ArrayList<>();
+        for (int i = 0; i < historySize; i++) {
+            String sender = i % 2 == 0 ? "user" : "ai";
+            messages.add(new ChatMessage(sender, "Message " + i + ": I went to the park with my friends "
+                    + "and we played soccer until it got dark. \"Quoted\" text and emoji 😀.", LocalDateTime.now()));
+        }
+
+        String summary = withSummary ? "The student talked about school, hobbies and a trip to Busan." : null;
+        request = new GeminiChatRequest("You are a friendly English teacher for elementary students.",
+                new ChatContextWindow(summary, messages, 0, false), null, null);
+        buffer = new ByteArrayOutputStream(64 * 1024);
+
+        // 이전 턴까지의 조각이 캐시에 있는 상태 (마지막 메시지만 새로 직렬화)
+        List<SerializableString> serializedHistory = messages.subList(0, Math.max(0, messages.size() - 1)).stream()
+                .map(message -> GeminiChatRequest.serializeHistoryContent(JSON_FACTORY, message))
+                .toList();
+        fragmentRequest = new GeminiChatRequest(request.systemPrompt(), request.contextWindow(), null, null, null,
+                serializedHistory);
+    }
+
+    @Benchmark
+    public int writeRequestBody() throws IOException {
+        buffer.reset();
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(buffer)) {
+            request.writeTo(generator);
+        }
+        return buffer.size();
+    }
+
+    @Benchmark
+    public int writeRequestBodyWithSerializedHistory() throws IOException {
+        buffer.reset();
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(buffer)) {
+            fragmentRequest.writeTo(generator);
+        }
+        return buffer.size();
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.devbattery.englishteacher.chat.presentation.dto;
+
+import com.devbattery.englishteacher.chat.domain.ChatConversation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 채팅방 목록 응답 변환 비용 (한 레벨 최대 10개 방)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChatRoomSummaryResponseBenchmark {
+
+    private static final int ROOM_COUNT = 10;
+
+    private List<ChatConversation> conversations;
+
+    @Setup
+    public void setUp() {
+        conversations = new ArrayList<>();
+        for (int i = 0; i < ROOM_COUNT; i++) {
+            ChatConversation conversation = new ChatConversation(1L, "elementary");
+            conversation.addMessage("user", "I want to talk about my weekend trip to the beach " + i);
+            conversation.addMessage("ai", "That sounds wonderful! What did you do at the beach?");
+            conversations.add(conversation);
+        }
+    }
+
+    @Benchmark
+    public ChatRoomSummaryResponse from() {
+        return ChatRoomSummaryResponse.from(conversations.get(0));
+    }
+
+    @Benchmark
+    public List<ChatRoomSummaryResponse> fromRoomList() {
+        return conversations.stream()
+                .map(ChatRoomSummaryResponse::from)
+                .toList();
+    }
+
+}
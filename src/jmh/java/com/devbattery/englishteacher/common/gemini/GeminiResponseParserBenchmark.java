@@ -0,0 +1,55 @@
+package com.devbattery.englishteacher.common.gemini;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * generateContent 응답 본문 길이별 파싱 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GeminiResponseParserBenchmark {
+
+    @Param({"200", "4000", "32000"})
+    private int textLength;
+
+    private GeminiResponseParser parser;
+    private String responseBody;
+
+    @Setup
+    public void setUp() {
+        parser = new GeminiResponseParser(new ObjectMapper());
+        String text = "Great job! Let's keep practicing. \\n".repeat(textLength / 36 + 1).substring(0, textLength);
+        responseBody = """
+                {
+                  "candidates": [
+                    {
+                      "content": {"role": "model", "parts": [{"text": "%s"}]},
+                      "finishReason": "STOP",
+                      "safetyRatings": [
+                        {"category": "HARM_CATEGORY_HARASSMENT", "probability": "NEGLIGIBLE"},
+                        {"category": "HARM_CATEGORY_HATE_SPEECH", "probability": "NEGLIGIBLE"}
+                      ]
+                    }
+                  ],
+                  "usageMetadata": {"promptTokenCount": 1520, "candidatesTokenCount": 210, "totalTokenCount": 1730},
+                  "modelVersion": "gemini-2.0-flash"
+                }
+                """.formatted(text);
+    }
+
+    @Benchmark
+    public GeminiResponse parse() {
+        return parser.parse(responseBody);
+    }
+
+}
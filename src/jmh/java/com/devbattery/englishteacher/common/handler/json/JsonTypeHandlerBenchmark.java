@@ -0,0 +1,73 @@
+package com.devbattery.englishteacher.common.handler.json;
+
+import com.devbattery.englishteacher.learning.domain.KeyExpression;
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * learning_content.key_expressions 컬럼의 KeyExpression 목록 JSON 저장/조회 왕복 비용
+ * (JDBC 드라이버 비용을 빼기 위해 setString/getString만 흉내 내는 PreparedStatement/ResultSet 사용)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonTypeHandlerBenchmark {
+
+    private static final String COLUMN_NAME = "key_expressions";
+
+    @Param({"5", "20"})
+    private int expressionCount;
+
+    private JsonTypeHandler<List<KeyExpression>> typeHandler;
+    private List<KeyExpression> keyExpressions;
+    private PreparedStatement preparedStatement;
+    private ResultSet resultSet;
+    private String column;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        typeHandler = new JsonTypeHandler<>((Class<List<KeyExpression>>) (Class<?>) List.class);
+        keyExpressions = new ArrayList<>();
+        for (int i = 0; i < expressionCount; i++) {
+            keyExpressions.add(new KeyExpression("look forward to " + i, "~을 기대하다 " + i));
+        }
+
+        ClassLoader classLoader = getClass().getClassLoader();
+        preparedStatement = (PreparedStatement) Proxy.newProxyInstance(classLoader,
+                new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                    if ("setString".equals(method.getName())) {
+                        column = (String) args[1];
+                    }
+                    return null;
+                });
+        resultSet = (ResultSet) Proxy.newProxyInstance(classLoader, new Class<?>[]{ResultSet.class},
+                (proxy, method, args) -> "getString".equals(method.getName()) ? column : null);
+    }
+
+    @Benchmark
+    public List<KeyExpression> roundTrip() throws SQLException {
+        typeHandler.setNonNullParameter(preparedStatement, 1, keyExpressions, null);
+        return typeHandler.getNullableResult(resultSet, COLUMN_NAME);
+    }
+
+    @Benchmark
+    public String write() throws SQLException {
+        typeHandler.setNonNullParameter(preparedStatement, 1, keyExpressions, null);
+        return column;
+    }
+
+}
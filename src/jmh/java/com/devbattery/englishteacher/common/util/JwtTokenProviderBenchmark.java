@@ -0,0 +1,58 @@
+package com.devbattery.englishteacher.common.util;
+
+import com.devbattery.englishteacher.auth.domain.UserPrincipal;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * 모든 인증 요청이 거치는 JwtAuthFilter 경로 (토큰 검증 + Authentication 복원)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        String secretKey = Encoders.BASE64.encode(Keys.secretKeyFor(SignatureAlgorithm.HS256).getEncoded());
+        jwtTokenProvider = new JwtTokenProvider(secretKey, 3_600_000L, 1_209_600_000L);
+
+        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+        UserPrincipal principal = new UserPrincipal(1L, "bench@test.com", authorities);
+        accessToken = jwtTokenProvider.generateAccessToken(
+                new UsernamePasswordAuthenticationToken(principal, "", authorities));
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return jwtTokenProvider.getAuthentication(accessToken);
+    }
+
+    @Benchmark
+    public Authentication validateAndGetAuthentication() {
+        jwtTokenProvider.validateToken(accessToken);
+        return jwtTokenProvider.getAuthentication(accessToken);
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.devbattery.englishteacher.chat.application.service;
+
+import com.devbattery.englishteacher.chat.domain.ChatMessage;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Gemini에 보낼 대화 문맥: 오래된 대화의 요약 + 토큰 예산 안의 최근 메시지 원문
+ *
+ * @param summary         startIndex 이전 대화의 요약 (필요 없으면 null)
+ * @param messages        원문 그대로 보낼 최근 메시지
+ * @param startIndex      messages 첫 메시지의 대화 전체 기준 순번
+ * @param summaryOutdated 요약이 startIndex 직전까지 따라오지 못해 누락된 구간이 있는지 여부
+ */
+public record ChatContextWindow(@Nullable String summary, List<ChatMessage> messages, long startIndex,
+                                boolean summaryOutdated) {
+
+}
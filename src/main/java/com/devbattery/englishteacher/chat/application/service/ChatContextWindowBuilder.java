@@ -0,0 +1,68 @@
+package com.devbattery.englishteacher.chat.application.service;
+
+import com.devbattery.englishteacher.chat.domain.ChatMessage;
+import com.devbattery.englishteacher.chat.domain.ChatMessageSlice;
+import com.devbattery.englishteacher.common.config.ChatContextProperties;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 레벨별 토큰 예산 안에서 최근 메시지를 최신순으로 채우고, 그 이전 구간은 저장된 요약으로 대체
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatContextWindowBuilder {
+
+    private static final int CHARS_PER_TOKEN = 4;
+    private static final int MESSAGE_OVERHEAD_TOKENS = 4;
+    private static final int IMAGE_TOKENS = 258;
+
+    private final ChatContextProperties contextProperties;
+
+    public ChatContextWindow build(String level, ChatMessageSlice recent, @Nullable String summary,
+                                   long summarizedMessageCount) {
+        return build(level, recent, summary, summarizedMessageCount, 1.0);
+    }
+
+    /**
+     * budgetScale: 레벨별 토큰 예산에 곱할 비율 (하루 토큰 사용량이 많은 사용자는 문맥을 줄여 보냄)
+     */
+    public ChatContextWindow build(String level, ChatMessageSlice recent, @Nullable String summary,
+                                   long summarizedMessageCount, double budgetScale) {
+        List<ChatMessage> messages = recent.messages();
+        int budget = (int) (contextProperties.getTokenBudget(level) * budgetScale);
+        int minRecentMessages = contextProperties.getMinRecentMessages();
+
+        int usedTokens = 0;
+        int from = messages.size();
+        while (from > 0) {
+            int tokens = estimateTokens(messages.get(from - 1));
+            int included = messages.size() - from;
+            if (included >= minRecentMessages && usedTokens + tokens > budget) {
+                break;
+            }
+            usedTokens += tokens;
+            from--;
+        }
+
+        long startIndex = recent.startIndex() + from;
+        boolean hasSummary = summary != null && !summary.isBlank() && summarizedMessageCount > 0;
+        String windowSummary = hasSummary && startIndex > 0 ? summary : null;
+        boolean summaryOutdated = summarizedMessageCount < startIndex;
+
+        return new ChatContextWindow(windowSummary, List.copyOf(messages.subList(from, messages.size())),
+                startIndex, summaryOutdated);
+    }
+
+    static int estimateTokens(ChatMessage message) {
+        int textLength = message.getText() == null ? 0 : message.getText().length();
+        int tokens = MESSAGE_OVERHEAD_TOKENS + (textLength + CHARS_PER_TOKEN - 1) / CHARS_PER_TOKEN;
+        if (message.getImageUrl() != null) {
+            tokens += IMAGE_TOKENS;
+        }
+        return tokens;
+    }
+
+}
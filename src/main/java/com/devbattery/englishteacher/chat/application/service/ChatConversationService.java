@@ -1,9 +1,16 @@
 package com.devbattery.englishteacher.chat.application.service;
 
 import com.devbattery.englishteacher.chat.domain.ChatConversation;
+import com.devbattery.englishteacher.chat.domain.ChatMessage;
+import com.devbattery.englishteacher.chat.domain.ChatMessageBucket;
+import com.devbattery.englishteacher.chat.domain.ChatMessageSlice;
 import com.devbattery.englishteacher.chat.domain.repository.ChatConversationRepository;
+import com.devbattery.englishteacher.chat.domain.repository.ChatMessageBucketRepository;
+import com.devbattery.englishteacher.chat.domain.repository.ChatRoomQuotaRepository;
 import com.devbattery.englishteacher.common.exception.ChatRoomNotFoundException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -12,26 +19,120 @@ import org.springframework.stereotype.Service;
 public class ChatConversationService {
 
     private final ChatConversationRepository chatConversationRepository;
+    private final ChatMessageBucketRepository chatMessageBucketRepository;
+    private final ChatRoomQuotaRepository chatRoomQuotaRepository;
 
     public ChatConversation fetchById(String conversationId) {
         return chatConversationRepository.findById(conversationId)
                 .orElseThrow(ChatRoomNotFoundException::new);
     }
 
-    public List<ChatConversation> fetchAllByUserIdAndTeacherLevel(Long userId, String teacherLevel) {
-        return chatConversationRepository.findAllByUserIdAndTeacherLevel(userId, teacherLevel);
+    public ChatConversation fetchLatestById(String conversationId) {
+        return chatConversationRepository.findLatestById(conversationId)
+                .orElseThrow(ChatRoomNotFoundException::new);
+    }
+
+    /**
+     * 보관된 버킷과 tail을 합친 전체 메시지
+     */
+    public List<ChatMessage> fetchAllMessages(ChatConversation conversation) {
+        List<ChatMessage> messages = new ArrayList<>();
+        chatMessageBucketRepository.findAllByConversationId(conversation.getId())
+                .forEach(bucket -> messages.addAll(bucket.getMessages()));
+        messages.addAll(conversation.getMessages());
+        return messages;
+    }
+
+    /**
+     * 직전 버킷과 tail만 합친 최근 메시지 (대화 길이와 무관하게 최대 2개 버킷 분량)
+     */
+    public ChatMessageSlice fetchRecentMessages(ChatConversation conversation) {
+        List<ChatMessage> messages = new ArrayList<>();
+        long startIndex = conversation.getTailStartIndex();
+        if (conversation.getBucketCount() > 0) {
+            Optional<ChatMessageBucket> previousBucket = chatMessageBucketRepository
+                    .findByConversationIdAndSequence(conversation.getId(), conversation.getBucketCount() - 1);
+            if (previousBucket.isPresent()) {
+                messages.addAll(previousBucket.get().getMessages());
+                startIndex -= ChatMessageBucket.CAPACITY;
+            }
+        }
+        messages.addAll(conversation.getMessages());
+        return new ChatMessageSlice(startIndex, messages);
+    }
+
+    /**
+     * 대화 전체 기준 [fromIndex, toIndex) 구간의 메시지 (해당 구간을 담은 버킷과 tail만 조회)
+     */
+    public List<ChatMessage> fetchMessages(ChatConversation conversation, long fromIndex, long toIndex) {
+        List<ChatMessage> messages = new ArrayList<>();
+        long tailStartIndex = conversation.getTailStartIndex();
+
+        if (fromIndex < tailStartIndex) {
+            int fromSequence = (int) (fromIndex / ChatMessageBucket.CAPACITY);
+            int toSequence = (int) ((Math.min(toIndex, tailStartIndex) - 1) / ChatMessageBucket.CAPACITY);
+            for (ChatMessageBucket bucket : chatMessageBucketRepository.findAllByConversationIdAndSequenceRange(
+                    conversation.getId(), fromSequence, toSequence)) {
+                long bucketStartIndex = (long) bucket.getSequence() * ChatMessageBucket.CAPACITY;
+                addInRange(messages, bucket.getMessages(), bucketStartIndex, fromIndex, toIndex);
+            }
+        }
+        addInRange(messages, conversation.getMessages(), tailStartIndex, fromIndex, toIndex);
+        return messages;
+    }
+
+    public boolean updateSummary(String conversationId, long expectedSummarizedCount, String summary,
+                                 long summarizedMessageCount) {
+        return chatConversationRepository.updateSummary(conversationId, expectedSummarizedCount, summary,
+                summarizedMessageCount);
     }
 
-    public long countByUserIdAndTeacherLevel(Long userId, String teacherLevel) {
-        return chatConversationRepository.countByUserIdAndTeacherLevel(userId, teacherLevel);
+    public List<ChatConversation> fetchAllSummariesByUserIdAndTeacherLevel(Long userId, String teacherLevel) {
+        return chatConversationRepository.findAllSummariesByUserIdAndTeacherLevel(userId, teacherLevel);
     }
 
     public void save(ChatConversation chatConversation) {
         chatConversationRepository.save(chatConversation);
     }
 
-    public void deleteById(String conversationId) {
-        chatConversationRepository.deleteById(conversationId);
+    public boolean appendMessages(String conversationId, long expectedVersion, List<ChatMessage> messages) {
+        return chatConversationRepository.appendMessages(conversationId, expectedVersion, messages);
+    }
+
+    /**
+     * (사용자, 레벨)별 채팅방 수 카운터에서 한 자리를 원자적으로 확보 (한도에 도달했으면 false)
+     * <p>
+     * 카운터 도입 이전 사용자는 첫 생성 시 실제 채팅방 수로 카운터를 초기화
+     */
+    public boolean reserveRoomSlot(Long userId, String level, int maxRooms) {
+        if (chatRoomQuotaRepository.tryIncrement(userId, level, maxRooms)) {
+            return true;
+        }
+        if (chatRoomQuotaRepository.exists(userId, level)) {
+            return false;
+        }
+
+        long roomCount = chatConversationRepository.countByUserIdAndTeacherLevel(userId, level);
+        chatRoomQuotaRepository.insertIfAbsent(userId, level, roomCount);
+        return chatRoomQuotaRepository.tryIncrement(userId, level, maxRooms);
+    }
+
+    public void releaseRoomSlot(Long userId, String level) {
+        chatRoomQuotaRepository.decrement(userId, level);
+    }
+
+    public boolean deleteById(String conversationId) {
+        return chatConversationRepository.deleteById(conversationId);
+    }
+
+    private void addInRange(List<ChatMessage> target, List<ChatMessage> source, long sourceStartIndex,
+                            long fromIndex, long toIndex) {
+        for (int i = 0; i < source.size(); i++) {
+            long index = sourceStartIndex + i;
+            if (index >= fromIndex && index < toIndex) {
+                target.add(source.get(i));
+            }
+        }
     }
 
 }
@@ -0,0 +1,121 @@
+package com.devbattery.englishteacher.chat.application.service;
+
+import com.devbattery.englishteacher.chat.domain.ChatMessage;
+import com.devbattery.englishteacher.common.config.ChatContextProperties;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대화별로 이미 Gemini에 보낸 메시지의 contents JSON 조각을 메시지 순번 기준으로 보관
+ * <p>
+ * 메시지는 추가만 되므로 턴마다 새로 붙은 메시지만 직렬화하고, 윈도우가 앞으로 밀리면 앞쪽 조각만 버림
+ * 보관된 조각은 발신자, 작성 시각, 길이로 원본 메시지와 대조해 다르면 그 지점부터 다시 직렬화
+ * (작성 시각은 MongoDB에 저장되며 밀리초 단위로 잘리므로 양쪽 모두 밀리초 단위로 맞춰 비교)
+ */
+@Component
+public class ChatHistoryFragmentCache {
+
+    private final JsonFactory jsonFactory;
+    private final Cache<String, ConversationFragments> fragmentsByConversation;
+
+    public ChatHistoryFragmentCache(ObjectMapper objectMapper, ChatContextProperties contextProperties,
+                                    MeterRegistry meterRegistry) {
+        this.jsonFactory = objectMapper.getFactory();
+        this.fragmentsByConversation = Caffeine.newBuilder()
+                .maximumSize(contextProperties.getFragmentCacheMaxConversations())
+                .expireAfterAccess(contextProperties.getFragmentCacheExpireAfterAccess())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, fragmentsByConversation, "chatHistoryFragments");
+    }
+
+    /**
+     * 윈도우의 마지막 메시지(이번 턴의 사용자 메시지)를 제외한 메시지들의 contents 조각
+     */
+    public List<SerializableString> fragmentsOf(String conversationId, ChatContextWindow window) {
+        List<ChatMessage> messages = window.messages();
+        if (messages.size() <= 1) {
+            return List.of();
+        }
+
+        ConversationFragments fragments = fragmentsByConversation.get(conversationId,
+                ignored -> new ConversationFragments());
+        synchronized (fragments) {
+            return fragments.collect(window.startIndex(), messages.subList(0, messages.size() - 1));
+        }
+    }
+
+    public void evict(String conversationId) {
+        fragmentsByConversation.invalidate(conversationId);
+    }
+
+    private record Fragment(String sender, @Nullable LocalDateTime timestamp, int textLength, SerializableString json) {
+
+        static Fragment of(ChatMessage message, SerializableString json) {
+            return new Fragment(message.getSender(), timestampOf(message), textLengthOf(message), json);
+        }
+
+        boolean matches(ChatMessage message) {
+            return Objects.equals(sender, message.getSender()) && Objects.equals(timestamp, timestampOf(message))
+                    && textLength == textLengthOf(message);
+        }
+
+        @Nullable
+        private static LocalDateTime timestampOf(ChatMessage message) {
+            return message.getTimestamp() == null ? null : message.getTimestamp().truncatedTo(ChronoUnit.MILLIS);
+        }
+
+        private static int textLengthOf(ChatMessage message) {
+            return message.getText() == null ? -1 : message.getText().length();
+        }
+
+    }
+
+    /**
+     * firstIndex부터 연속된 메시지의 조각
+     */
+    private class ConversationFragments {
+
+        private long firstIndex;
+        private final List<Fragment> fragments = new ArrayList<>();
+
+        List<SerializableString> collect(long startIndex, List<ChatMessage> messages) {
+            long endIndex = firstIndex + fragments.size();
+            if (startIndex < firstIndex || startIndex > endIndex) {
+                fragments.clear();
+                firstIndex = startIndex;
+            } else if (startIndex > firstIndex) {
+                fragments.subList(0, (int) (startIndex - firstIndex)).clear();
+                firstIndex = startIndex;
+            }
+
+            List<SerializableString> result = new ArrayList<>(messages.size());
+            for (int i = 0; i < messages.size(); i++) {
+                ChatMessage message = messages.get(i);
+                if (i < fragments.size() && !fragments.get(i).matches(message)) {
+                    fragments.subList(i, fragments.size()).clear();
+                }
+                if (i == fragments.size()) {
+                    SerializableString json = GeminiChatRequest.serializeHistoryContent(jsonFactory, message);
+                    fragments.add(Fragment.of(message, json));
+                }
+                result.add(fragments.get(i).json());
+            }
+            return result;
+        }
+
+    }
+
+}
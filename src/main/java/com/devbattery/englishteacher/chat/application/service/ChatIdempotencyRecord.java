@@ -0,0 +1,24 @@
+package com.devbattery.englishteacher.chat.application.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Idempotency-Key별 처리 상태 (Redis 저장용, 완료 시 응답을 함께 보관)
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ChatIdempotencyRecord {
+
+    private boolean completed;
+    private String fingerprint;
+    private String reply;
+    private String conversationId;
+
+    public static ChatIdempotencyRecord inProgress(String fingerprint) {
+        return new ChatIdempotencyRecord(false, fingerprint, null, null);
+    }
+
+}
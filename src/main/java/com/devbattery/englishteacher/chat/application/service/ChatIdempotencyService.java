@@ -0,0 +1,185 @@
+package com.devbattery.englishteacher.chat.application.service;
+
+import com.devbattery.englishteacher.chat.presentation.dto.ChatResponse;
+import com.devbattery.englishteacher.common.exception.FileStorageException;
+import com.devbattery.englishteacher.common.exception.IdempotencyKeyInProgressException;
+import com.devbattery.englishteacher.common.exception.IdempotencyKeyMismatchException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Idempotency-Key로 재시도된 채팅 전송을 한 번만 처리
+ * <p>
+ * 처음 도착한 요청이 Redis에 처리 중 표시를 남기고, 동시에 도착한 중복 요청은 원래 요청의 결과를 기다리며,
+ * 완료된 응답은 짧은 TTL 동안 그대로 재전송
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatIdempotencyService {
+
+    private static final String IDEMPOTENCY_PREFIX = "chat_idempotency:";
+    private static final Duration IN_PROGRESS_EXPIRATION = Duration.ofMinutes(3);
+    private static final Duration RESULT_EXPIRATION = Duration.ofMinutes(10);
+    private static final Duration MAX_WAIT = Duration.ofSeconds(90);
+    private static final long MIN_POLL_MILLIS = 50;
+    private static final long MAX_POLL_MILLIS = 500;
+    private static final String FINGERPRINT_ALGORITHM = "SHA-256";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    /**
+     * 같은 인스턴스에서 처리 중인 요청의 결과 (중복 요청이 Redis를 폴링하지 않고 바로 기다림)
+     */
+    private final Map<String, CompletableFuture<ChatResponse>> localResults = new ConcurrentHashMap<>();
+
+    public ChatResponse execute(Long userId, @Nullable String idempotencyKey, String fingerprint,
+                                Supplier<ChatResponse> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+
+        String key = IDEMPOTENCY_PREFIX + userId + ":" + idempotencyKey;
+        long deadline = System.nanoTime() + MAX_WAIT.toNanos();
+        long pollMillis = MIN_POLL_MILLIS;
+
+        while (true) {
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent(key, ChatIdempotencyRecord.inProgress(fingerprint), IN_PROGRESS_EXPIRATION))) {
+                return executeFirst(key, fingerprint, action);
+            }
+
+            ChatIdempotencyRecord record = (ChatIdempotencyRecord) redisTemplate.opsForValue().get(key);
+            if (record != null) {
+                if (!record.getFingerprint().equals(fingerprint)) {
+                    throw new IdempotencyKeyMismatchException();
+                }
+                if (record.isCompleted()) {
+                    log.info("Idempotency-Key 재요청에 저장된 응답을 재전송 (key: {})", key);
+                    return new ChatResponse(record.getReply(), record.getConversationId());
+                }
+            }
+
+            // 처리 중 표시가 사라졌으면(원래 요청 실패) 바로 다시 선점을 시도
+            if (record != null) {
+                ChatResponse localResult = awaitLocal(key, deadline);
+                if (localResult != null) {
+                    return localResult;
+                }
+                if (System.nanoTime() >= deadline) {
+                    throw new IdempotencyKeyInProgressException();
+                }
+                sleep(pollMillis);
+                pollMillis = Math.min(pollMillis * 2, MAX_POLL_MILLIS);
+            }
+        }
+    }
+
+    /**
+     * 저장된 응답을 재전송할 수 있는 Idempotency-Key인지 여부 (Redis를 읽지 못하면 false로 보고 새 요청처럼 처리)
+     */
+    public boolean isCompleted(Long userId, @Nullable String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return false;
+        }
+
+        try {
+            ChatIdempotencyRecord record = (ChatIdempotencyRecord) redisTemplate.opsForValue()
+                    .get(IDEMPOTENCY_PREFIX + userId + ":" + idempotencyKey);
+            return record != null && record.isCompleted();
+        } catch (RuntimeException e) {
+            log.warn("Idempotency-Key 완료 여부 확인 실패 (userId: {}): {}", userId, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 요청 내용의 SHA-256 (이미지는 파일명이 아닌 내용으로 구분해, 같은 이름과 크기의 다른 사진을 재요청으로 보지 않음)
+     */
+    public static String fingerprintOf(String conversationId, String message, @Nullable MultipartFile image) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance(FINGERPRINT_ALGORITHM);
+            digest.update((conversationId + "\n" + message + "\n").getBytes(StandardCharsets.UTF_8));
+            if (image != null && !image.isEmpty()) {
+                try (InputStream content = new DigestInputStream(image.getInputStream(), digest)) {
+                    content.transferTo(OutputStream.nullOutputStream());
+                }
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new FileStorageException();
+        }
+    }
+
+    private ChatResponse executeFirst(String key, String fingerprint, Supplier<ChatResponse> action) {
+        CompletableFuture<ChatResponse> localResult = new CompletableFuture<>();
+        localResults.put(key, localResult);
+
+        try {
+            ChatResponse response = action.get();
+            redisTemplate.opsForValue().set(key, new ChatIdempotencyRecord(true, fingerprint, response.reply(),
+                    response.conversationId()), RESULT_EXPIRATION);
+            localResult.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            // 실패한 요청은 기록을 지워 다음 재시도가 새로 처리되도록 함
+            redisTemplate.delete(key);
+            localResult.completeExceptionally(e);
+            throw e;
+        } finally {
+            localResults.remove(key, localResult);
+        }
+    }
+
+    /**
+     * 같은 인스턴스에서 처리 중이면 그 결과를 기다림 (다른 인스턴스에서 처리 중이거나 원래 요청이 실패하면 null)
+     */
+    @Nullable
+    private ChatResponse awaitLocal(String key, long deadline) {
+        CompletableFuture<ChatResponse> localResult = localResults.get(key);
+        if (localResult == null) {
+            return null;
+        }
+
+        try {
+            return localResult.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            return null;
+        } catch (TimeoutException e) {
+            throw new IdempotencyKeyInProgressException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyInProgressException();
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyInProgressException();
+        }
+    }
+
+}
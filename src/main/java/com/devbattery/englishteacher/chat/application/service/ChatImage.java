@@ -0,0 +1,13 @@
+package com.devbattery.englishteacher.chat.application.service;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Gemini 요청에 실을 이미지 바이트와 MIME 타입
+ *
+ * @param bytes   축소·재인코딩한 이미지 (derived가 false면 null이고 원본 파일을 그대로 사용)
+ * @param derived 원본을 축소·재인코딩한 결과인지 여부
+ */
+public record ChatImage(@Nullable byte[] bytes, String mimeType, boolean derived) {
+
+}
@@ -0,0 +1,118 @@
+package com.devbattery.englishteacher.chat.application.service;
+
+import com.devbattery.englishteacher.common.config.ChatImageProperties;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 업로드 이미지를 긴 변 maxDimension 이하로 줄이고 메타데이터 없이 JPEG로 재인코딩 (디코딩 불가 시 원본 파일을 그대로 사용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatImagePreprocessor {
+
+    public static final String OUTPUT_MIME_TYPE = "image/jpeg";
+
+    private final ChatImageProperties imageProperties;
+
+    public ChatImage preprocess(Path original, @Nullable String originalMimeType) throws IOException {
+        BufferedImage decoded = decode(original);
+        if (decoded == null) {
+            log.warn("이미지를 디코딩할 수 없어 원본을 그대로 전송 (file: {})", original.getFileName());
+            return new ChatImage(null, originalMimeType, false);
+        }
+
+        BufferedImage resized = resize(decoded, imageProperties.getMaxDimension());
+        return new ChatImage(encodeJpeg(resized, imageProperties.getJpegQuality()), OUTPUT_MIME_TYPE, true);
+    }
+
+    /**
+     * 목표 크기의 2배 이상인 이미지는 서브샘플링으로 읽어 원본 해상도 전체를 힙에 올리지 않음
+     */
+    @Nullable
+    private BufferedImage decode(Path original) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(original.toFile())) {
+            if (input == null) {
+                return null;
+            }
+
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int longSide = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int subsampling = Math.max(1, longSide / imageProperties.getMaxDimension());
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } catch (IOException | RuntimeException e) {
+                log.warn("이미지 디코딩 실패 (file: {})", original.getFileName(), e);
+                return null;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage resize(BufferedImage source, int maxDimension) {
+        double scale = Math.min(1.0, (double) maxDimension / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        // JPEG는 알파 채널이 없으므로 흰 배경 위에 그려 투명 영역을 처리
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(quality);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            writer.setOutput(imageOutput);
+            // 메타데이터(EXIF, GPS 등)는 넘기지 않으므로 재인코딩 결과에서 제거됨
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+
+}
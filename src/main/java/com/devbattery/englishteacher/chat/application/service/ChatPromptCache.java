@@ -0,0 +1,149 @@
+package com.devbattery.englishteacher.chat.application.service;
+
+import com.devbattery.englishteacher.common.config.ChatPromptCacheProperties;
+import com.devbattery.englishteacher.common.config.GeminiPromptProperties;
+import com.devbattery.englishteacher.common.exception.GeminiApiException;
+import com.devbattery.englishteacher.common.gemini.GeminiCachedContent;
+import com.devbattery.englishteacher.common.gemini.GeminiClient;
+import com.devbattery.englishteacher.common.gemini.GeminiUseCase;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프롬프트 키(설정된 레벨 또는 기본 프롬프트)별 고정 앞부분(시스템 프롬프트 + 확인 응답)을 Gemini cachedContents에
+ * 등록해 두고 채팅 요청에서 참조
+ * <p>
+ * 등록은 시작 시와 처음 사용할 때 백그라운드에서 진행하고, 캐시가 준비되기 전까지는 프롬프트를 그대로 보냄
+ * 만료가 가까워지면 주기적으로 새 캐시로 교체하며, 프롬프트 설정이 바뀌면 다시 등록하고, 등록이 거절된 프롬프트는 잠시 캐시 없이 보냄
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatPromptCache {
+
+    private static final Duration EXPIRY_SAFETY_MARGIN = Duration.ofSeconds(30);
+
+    private final GeminiClient geminiClient;
+    private final ChatPromptCacheProperties cacheProperties;
+    private final GeminiPromptProperties promptProperties;
+    private final TaskExecutor chatPromptCacheExecutor;
+
+    private final Map<String, CachedPrompt> cachedPrompts = new ConcurrentHashMap<>();
+    private final Set<String> registeringPromptKeys = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 레벨의 현재 캐시 이름 (캐시가 아직 없거나 쓸 수 없으면 null이고, 필요하면 백그라운드 등록을 요청)
+     * <p>
+     * 캐시는 레벨이 아닌 프롬프트 키별로 관리하므로, 설정되지 않은 레벨은 모두 기본 프롬프트의 캐시를 함께 사용
+     */
+    @Nullable
+    public String lookup(String level, String systemPrompt) {
+        if (!cacheProperties.isEnabled()) {
+            return null;
+        }
+
+        String promptKey = promptProperties.chatPromptKeyOf(level);
+        Instant now = Instant.now();
+        CachedPrompt cached = cachedPrompts.get(promptKey);
+        if (cached == null || !cached.systemPrompt().equals(systemPrompt) || cached.needsRegistration(now)) {
+            requestRegistration(promptKey, systemPrompt);
+            return null;
+        }
+        return cached.usableName(now);
+    }
+
+    /**
+     * 설정된 프롬프트(레벨별 프롬프트와 기본 프롬프트)를 미리 등록
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void registerConfiguredPrompts() {
+        if (!cacheProperties.isEnabled() || promptProperties.getChat() == null) {
+            return;
+        }
+
+        promptProperties.getChat().forEach(this::requestRegistration);
+    }
+
+    @Scheduled(fixedDelayString = "#{@chatPromptCacheProperties.refreshCheckInterval.toMillis()}",
+            initialDelayString = "#{@chatPromptCacheProperties.refreshCheckInterval.toMillis()}")
+    public void refreshExpiring() {
+        Instant refreshAt = Instant.now().plus(cacheProperties.getRefreshBefore());
+        cachedPrompts.forEach((promptKey, cached) -> {
+            if (cached.name() != null && !cached.expireTime().isAfter(refreshAt)) {
+                requestRegistration(promptKey, cached.systemPrompt());
+            }
+        });
+    }
+
+    /**
+     * 프롬프트 키별로 동시에 하나의 등록만 백그라운드에서 실행 (요청 스레드는 Gemini 응답을 기다리지 않음)
+     */
+    private void requestRegistration(String promptKey, String systemPrompt) {
+        if (!registeringPromptKeys.add(promptKey)) {
+            return;
+        }
+
+        try {
+            chatPromptCacheExecutor.execute(() -> {
+                try {
+                    register(promptKey, systemPrompt);
+                } catch (Exception e) {
+                    log.error("'{}' 프롬프트 캐시 등록 중 오류 발생", promptKey, e);
+                } finally {
+                    registeringPromptKeys.remove(promptKey);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            registeringPromptKeys.remove(promptKey);
+            log.warn("프롬프트 캐시 등록 대기열이 가득 차 다음 요청에 다시 시도 (promptKey: {})", promptKey);
+        }
+    }
+
+    private void register(String promptKey, String systemPrompt) {
+        CachedPrompt registered;
+        try {
+            GeminiCachedContent cachedContent = geminiClient.createCachedContent(GeminiUseCase.CHAT,
+                    generator -> GeminiChatRequest.writePromptPrefix(generator, systemPrompt),
+                    cacheProperties.getTtl());
+            registered = new CachedPrompt(systemPrompt, cachedContent.name(), cachedContent.expireTime());
+            log.info("'{}' 프롬프트 캐시 등록 (name: {}, expireTime: {})", promptKey, cachedContent.name(),
+                    cachedContent.expireTime());
+        } catch (GeminiApiException e) {
+            registered = new CachedPrompt(systemPrompt, null,
+                    Instant.now().plus(cacheProperties.getRetryAfterFailure()));
+            log.warn("'{}' 프롬프트 캐시 등록 실패, {} 동안 프롬프트를 그대로 전송", promptKey,
+                    cacheProperties.getRetryAfterFailure());
+        }
+        cachedPrompts.put(promptKey, registered);
+    }
+
+    /**
+     * @param name       등록된 캐시 이름 (등록 실패 시 null)
+     * @param expireTime 캐시 만료 시각 (등록 실패 시 재시도 시각)
+     */
+    private record CachedPrompt(String systemPrompt, @Nullable String name, Instant expireTime) {
+
+        boolean needsRegistration(Instant now) {
+            return !now.isBefore(expireTime.minus(EXPIRY_SAFETY_MARGIN));
+        }
+
+        @Nullable
+        String usableName(Instant now) {
+            return name != null && !needsRegistration(now) ? name : null;
+        }
+
+    }
+
+}
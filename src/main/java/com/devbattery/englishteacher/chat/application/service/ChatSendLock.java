@@ -0,0 +1,161 @@
+package com.devbattery.englishteacher.chat.application.service;
+
+import com.devbattery.englishteacher.common.config.ChatSendLockProperties;
+import com.devbattery.englishteacher.common.config.ChatSendLockProperties.Mode;
+import com.devbattery.englishteacher.common.exception.ChatSendInProgressException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Component;
+
+/**
+ * 같은 대화의 채팅 턴을 하나씩, 도착 순서대로 처리하기 위한 대화별 락
+ * <p>
+ * LOCAL 모드는 대화 id를 해시해 고정 개수의 공정 세마포어에 나눠 담고, REDISSON 모드는 대화별 공정 락을 사용
+ * 스트리밍 턴은 요청 스레드에서 획득하고 스트림 처리 스레드에서 해제하므로, 스레드가 아닌 턴마다 만든 소유자 id로 락을 보유
+ */
+@Slf4j
+@Component
+public class ChatSendLock {
+
+    private static final String LOCK_PREFIX = "lock:chat-send:";
+
+    private final RedissonClient redissonClient;
+    private final ChatSendLockProperties lockProperties;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore[] stripes;
+    private final AtomicLong ownerSequence = new AtomicLong();
+
+    public ChatSendLock(RedissonClient redissonClient, ChatSendLockProperties lockProperties,
+                        MeterRegistry meterRegistry) {
+        this.redissonClient = redissonClient;
+        this.lockProperties = lockProperties;
+        this.meterRegistry = meterRegistry;
+        this.stripes = new Semaphore[stripeCountOf(lockProperties.getStripes())];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Semaphore(1, true);
+        }
+    }
+
+    /**
+     * 앞선 턴이 끝날 때까지 기다렸다가 락을 획득 (waitTimeout 안에 획득하지 못하면 예외)
+     */
+    public Permit acquire(String conversationId) {
+        if (!lockProperties.isEnabled()) {
+            return Permit.NONE;
+        }
+
+        Mode mode = lockProperties.getMode();
+        long waitStartNanos = System.nanoTime();
+        Permit permit = null;
+        try {
+            permit = mode == Mode.REDISSON ? acquireRedisson(conversationId) : acquireLocal(conversationId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            recordWait(mode, permit != null, System.nanoTime() - waitStartNanos);
+        }
+
+        if (permit == null) {
+            log.warn("채팅 턴 락 획득 실패 (conversationId: {}, mode: {})", conversationId, mode);
+            throw new ChatSendInProgressException();
+        }
+        return permit;
+    }
+
+    private Permit acquireLocal(String conversationId) throws InterruptedException {
+        Semaphore stripe = stripes[spread(conversationId.hashCode()) & (stripes.length - 1)];
+        if (!stripe.tryAcquire()) {
+            recordContention(Mode.LOCAL);
+            if (!stripe.tryAcquire(lockProperties.getWaitTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                return null;
+            }
+        }
+        return new Permit(stripe::release);
+    }
+
+    private Permit acquireRedisson(String conversationId) throws InterruptedException {
+        RLock lock = redissonClient.getFairLock(LOCK_PREFIX + conversationId);
+        long ownerId = -ownerSequence.incrementAndGet();
+        long leaseMillis = lockProperties.getLeaseTime().toMillis();
+        try {
+            boolean acquired = lock.tryLockAsync(0, leaseMillis, TimeUnit.MILLISECONDS, ownerId).get();
+            if (!acquired) {
+                recordContention(Mode.REDISSON);
+                acquired = lock.tryLockAsync(lockProperties.getWaitTimeout().toMillis(), leaseMillis,
+                        TimeUnit.MILLISECONDS, ownerId).get();
+            }
+            return acquired ? new Permit(() -> unlockRedisson(lock, ownerId)) : null;
+        } catch (ExecutionException e) {
+            log.warn("Redisson 채팅 턴 락 획득 중 오류 (conversationId: {}): {}", conversationId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void unlockRedisson(RLock lock, long ownerId) {
+        lock.unlockAsync(ownerId).whenComplete((ignored, e) -> {
+            if (e != null) {
+                // 보유 시간이 지나 이미 풀린 경우 등 (다음 턴은 leaseTime 이후 진행)
+                log.warn("Redisson 채팅 턴 락 해제 실패 (lock: {}): {}", lock.getName(), e.getMessage());
+            }
+        });
+    }
+
+    private void recordWait(Mode mode, boolean acquired, long waitNanos) {
+        Timer.builder("chat.send.lock.wait")
+                .description("같은 대화의 앞선 채팅 턴이 끝나기를 기다린 시간")
+                .tag("mode", mode.name().toLowerCase())
+                .tag("acquired", String.valueOf(acquired))
+                .register(meterRegistry)
+                .record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void recordContention(Mode mode) {
+        Counter.builder("chat.send.lock.contended")
+                .description("앞선 턴이 처리 중이라 바로 획득하지 못한 채팅 턴 락")
+                .tag("mode", mode.name().toLowerCase())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static int stripeCountOf(int stripes) {
+        return stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * 획득한 락 (어느 스레드에서든 한 번만 해제되며 중복 호출은 무시)
+     */
+    public static final class Permit implements AutoCloseable {
+
+        static final Permit NONE = new Permit(() -> {
+        });
+
+        private final Runnable release;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(Runnable release) {
+            this.release = release;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                release.run();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,148 @@
+package com.devbattery.englishteacher.chat.application.service;
+
+import com.devbattery.englishteacher.chat.domain.ChatMessage;
+import com.devbattery.englishteacher.common.gemini.GeminiRequestWriter;
+import com.fasterxml.jackson.core.Base64Variants;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * 시스템 프롬프트, 요약, 컨텍스트 윈도우, 이미지로 채팅 요청 본문을 스트리밍 작성 (이미지는 저장 파일에서 읽으며 base64 인코딩)
+ * <p>
+ * cachedContent가 있으면 시스템 프롬프트 턴 대신 Gemini에 등록된 캐시를 참조하고,
+ * serializedHistory가 있으면 윈도우 앞쪽 메시지를 다시 직렬화하지 않고 미리 만든 JSON 조각을 그대로 기록
+ *
+ * @param serializedHistory 윈도우의 마지막 메시지를 제외한 메시지들의 contents 조각 (순서 동일)
+ */
+public record GeminiChatRequest(String systemPrompt, ChatContextWindow contextWindow, @Nullable Path imagePath,
+                                @Nullable String imageMimeType, @Nullable String cachedContent,
+                                @Nullable List<SerializableString> serializedHistory)
+        implements GeminiRequestWriter {
+
+    private static final String SYSTEM_PROMPT_ACK = "Okay, I'm ready...";
+    private static final String SUMMARY_CONTEXT_PREFIX = "Summary of our earlier conversation: ";
+    private static final String SUMMARY_ACK = "Got it. Let's continue.";
+
+    public GeminiChatRequest(String systemPrompt, ChatContextWindow contextWindow, @Nullable Path imagePath,
+                             @Nullable String imageMimeType) {
+        this(systemPrompt, contextWindow, imagePath, imageMimeType, null, null);
+    }
+
+    public GeminiChatRequest(String systemPrompt, ChatContextWindow contextWindow, @Nullable Path imagePath,
+                             @Nullable String imageMimeType, @Nullable String cachedContent) {
+        this(systemPrompt, contextWindow, imagePath, imageMimeType, cachedContent, null);
+    }
+
+    @Override
+    public void writeTo(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        if (cachedContent != null) {
+            generator.writeStringField("cachedContent", cachedContent);
+        }
+        generator.writeArrayFieldStart("contents");
+
+        if (cachedContent == null) {
+            writePromptPrefix(generator, systemPrompt);
+        }
+
+        if (contextWindow.summary() != null) {
+            writeTextContent(generator, "user", SUMMARY_CONTEXT_PREFIX + contextWindow.summary());
+            writeTextContent(generator, "model", SUMMARY_ACK);
+        }
+
+        List<ChatMessage> messages = contextWindow.messages();
+        int serializedCount = serializedHistory == null ? 0 : serializedHistory.size();
+        for (int i = 0; i < messages.size(); i++) {
+            if (i < serializedCount) {
+                generator.writeRawValue(serializedHistory.get(i));
+                continue;
+            }
+
+            ChatMessage message = messages.get(i);
+            String role = roleOf(message);
+
+            if (i == messages.size() - 1 && "user".equals(role) && imagePath != null) {
+                writeImageContent(generator, role, message.getText());
+            } else {
+                writeTextContent(generator, role, message.getText());
+            }
+        }
+
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * 레벨별로 고정된 앞부분 (시스템 프롬프트와 모델의 확인 응답, 캐시 등록 시에도 같은 내용을 사용)
+     */
+    static void writePromptPrefix(JsonGenerator generator, String systemPrompt) throws IOException {
+        writeTextContent(generator, "user", systemPrompt);
+        writeTextContent(generator, "model", SYSTEM_PROMPT_ACK);
+    }
+
+    /**
+     * 이전 메시지 하나를 writeTo와 같은 형식의 contents 원소로 직렬화 (이미지는 마지막 메시지에만 붙으므로 텍스트만 기록)
+     */
+    static SerializableString serializeHistoryContent(JsonFactory jsonFactory, ChatMessage message) {
+        StringWriter json = new StringWriter();
+        try (JsonGenerator generator = jsonFactory.createGenerator(json)) {
+            writeTextContent(generator, roleOf(message), message.getText());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new SerializedString(json.toString());
+    }
+
+    private static String roleOf(ChatMessage message) {
+        return "ai".equalsIgnoreCase(message.getSender()) ? "model" : "user";
+    }
+
+    private void writeImageContent(JsonGenerator generator, String role, @Nullable String text) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("role", role);
+        generator.writeArrayFieldStart("parts");
+
+        generator.writeStartObject();
+        generator.writeObjectFieldStart("inline_data");
+        generator.writeStringField("mime_type", imageMimeType);
+        generator.writeFieldName("data");
+        try (InputStream image = Files.newInputStream(imagePath)) {
+            generator.writeBinary(Base64Variants.MIME_NO_LINEFEEDS, image, -1);
+        }
+        generator.writeEndObject();
+        generator.writeEndObject();
+
+        if (text != null && !text.isBlank()) {
+            writeTextPart(generator, text);
+        }
+
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private static void writeTextContent(JsonGenerator generator, String role, String text) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("role", role);
+        generator.writeArrayFieldStart("parts");
+        writeTextPart(generator, text);
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private static void writeTextPart(JsonGenerator generator, String text) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("text", text);
+        generator.writeEndObject();
+    }
+
+}
@@ -2,49 +2,56 @@ package com.devbattery.englishteacher.chat.application.service;
 
 import com.devbattery.englishteacher.chat.domain.ChatConversation;
 import com.devbattery.englishteacher.chat.domain.ChatMessage;
+import com.devbattery.englishteacher.chat.presentation.dto.ChatHistoryPageResponse;
 import com.devbattery.englishteacher.chat.presentation.dto.ChatResponse;
 import com.devbattery.englishteacher.chat.presentation.dto.ChatRoomSummaryResponse;
 import com.devbattery.englishteacher.common.config.FileStorageProperties;
 import com.devbattery.englishteacher.common.config.GeminiPromptProperties;
+import com.devbattery.englishteacher.common.config.TokenBudgetProperties;
+import com.devbattery.englishteacher.common.exception.ChatConversationConflictException;
 import com.devbattery.englishteacher.common.exception.ChatMessageNotFoundException;
 import com.devbattery.englishteacher.common.exception.ChatRoomOverException;
+import com.devbattery.englishteacher.common.exception.ErrorCode;
 import com.devbattery.englishteacher.common.exception.FileStorageException;
 import com.devbattery.englishteacher.common.exception.GeminiApiException;
-import com.devbattery.englishteacher.common.exception.ServerErrorException;
+import com.devbattery.englishteacher.common.exception.TokenBudgetExceededException;
+import com.devbattery.englishteacher.common.exception.TokenBudgetImageLimitedException;
 import com.devbattery.englishteacher.common.exception.UserUnauthorizedException;
+import com.devbattery.englishteacher.common.gemini.GeminiClient;
+import com.devbattery.englishteacher.common.gemini.GeminiResponse;
+import com.devbattery.englishteacher.common.gemini.GeminiResponseParser;
+import com.devbattery.englishteacher.common.gemini.GeminiUsage;
+import com.devbattery.englishteacher.common.gemini.GeminiUseCase;
+import com.devbattery.englishteacher.common.handler.ErrorResponse;
+import com.devbattery.englishteacher.common.storage.ContentAddressedFileStore;
+import com.devbattery.englishteacher.common.storage.StoredFile;
+import com.devbattery.englishteacher.usage.application.TokenUsageService;
+import com.devbattery.englishteacher.usage.domain.TokenBudgetStatus;
 import com.devbattery.englishteacher.user.application.service.UserReadService;
 import com.devbattery.englishteacher.user.domain.entity.User;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.SerializableString;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Base64;
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Service
 @Slf4j
@@ -52,52 +59,65 @@ import org.springframework.web.multipart.MultipartFile;
 public class GeminiChatService {
 
     private static final int MAX_CHAT_ROOMS_PER_LEVEL = 10;
-
-    @Value("${gemini.api.key-chat}")
-    private String apiKey;
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+    private static final long STREAM_TIMEOUT_MILLIS = 120_000L;
+    private static final String SSE_DATA_PREFIX = "data:";
+    private static final String STREAM_CHUNK_EVENT = "chunk";
+    private static final String STREAM_DONE_EVENT = "done";
+    private static final String STREAM_ERROR_EVENT = "error";
+    private static final String DERIVED_IMAGE_SUFFIX = "_gemini.jpg";
+    private static final int MAX_APPEND_ATTEMPTS = 5;
 
     @Value("${url.api}")
     private String apiUrl;
 
-    @Value("${gemini.api.template}")
-    private String apiTemplate;
-
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    private final GeminiClient geminiClient;
+    private final GeminiResponseParser geminiResponseParser;
 
     private final FileStorageProperties fileStorageProperties;
     private final UserReadService userReadService;
     private final ChatConversationService chatConversationService;
     private final GeminiPromptProperties promptProperties;
+    private final TaskExecutor chatStreamExecutor;
+    private final ChatContextWindowBuilder chatContextWindowBuilder;
+    private final ChatImagePreprocessor chatImagePreprocessor;
+    private final ContentAddressedFileStore contentAddressedFileStore;
+    private final GeminiChatSummaryService geminiChatSummaryService;
+    private final TokenUsageService tokenUsageService;
+    private final TokenBudgetProperties tokenBudgetProperties;
+    private final ChatPromptCache chatPromptCache;
+    private final ChatHistoryFragmentCache chatHistoryFragmentCache;
+    private final MeterRegistry meterRegistry;
+    private final ChatSendLock chatSendLock;
 
     /**
      * 새로운 채팅방을 생성할 때, 첫 AI 인사말을 포함하여 생성
      */
     @Transactional
     public ChatRoomSummaryResponse createChatRoom(Long userId, String level) {
-        long roomCount = chatConversationService.countByUserIdAndTeacherLevel(userId, level);
-        if (roomCount >= MAX_CHAT_ROOMS_PER_LEVEL) {
+        if (!chatConversationService.reserveRoomSlot(userId, level, MAX_CHAT_ROOMS_PER_LEVEL)) {
             throw new ChatRoomOverException();
         }
 
-        User user = userReadService.fetchById(userId);
-        ChatMessage firstAiMessage = createFirstMessageForLevel(level, user.getName());
+        try {
+            User user = userReadService.fetchById(userId);
+            ChatMessage firstAiMessage = createFirstMessageForLevel(level, user.getName());
 
-        ChatConversation conversation = new ChatConversation(userId, level);
-        conversation.addMessage(firstAiMessage.getSender(), firstAiMessage.getText());
-        chatConversationService.save(conversation);
+            ChatConversation conversation = new ChatConversation(userId, level);
+            conversation.addMessage(firstAiMessage.getSender(), firstAiMessage.getText());
+            chatConversationService.save(conversation);
 
-        return ChatRoomSummaryResponse.from(conversation);
+            return ChatRoomSummaryResponse.from(conversation);
+        } catch (RuntimeException e) {
+            chatConversationService.releaseRoomSlot(userId, level);
+            throw e;
+        }
     }
 
     @Transactional(readOnly = true)
     public List<ChatRoomSummaryResponse> fetchConversationListByLevel(Long userId, String level) {
-        return chatConversationService.fetchAllByUserIdAndTeacherLevel(userId, level)
+        return chatConversationService.fetchAllSummariesByUserIdAndTeacherLevel(userId, level)
                 .stream()
-                .sorted(Comparator.comparing(
-                        ChatConversation::getLastModifiedAt,
-                        Comparator.nullsLast(Comparator.naturalOrder())
-                ).reversed())
                 .map(ChatRoomSummaryResponse::from)
                 .collect(Collectors.toList());
     }
@@ -110,78 +130,298 @@ public class GeminiChatService {
             throw new UserUnauthorizedException();
         }
 
-        return conversation.getMessages();
+        return chatConversationService.fetchAllMessages(conversation);
     }
 
-    @Transactional
+    /**
+     * before 이전(없으면 가장 최신)부터 최대 size개의 메시지를 과거 방향으로 조회 (필요한 버킷만 읽음)
+     */
+    @Transactional(readOnly = true)
+    public ChatHistoryPageResponse getConversationHistoryPage(Long userId, String conversationId,
+                                                              @Nullable Long before, int size) {
+        ChatConversation conversation = chatConversationService.fetchById(conversationId);
+
+        if (!conversation.getUserId().equals(userId)) {
+            throw new UserUnauthorizedException();
+        }
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_HISTORY_PAGE_SIZE);
+        long totalCount = conversation.getTailStartIndex() + conversation.getMessages().size();
+        long toIndex = before == null ? totalCount : Math.max(0, Math.min(before, totalCount));
+        long fromIndex = Math.max(0, toIndex - pageSize);
+
+        List<ChatMessage> messages = chatConversationService.fetchMessages(conversation, fromIndex, toIndex);
+        boolean hasMore = fromIndex > 0;
+        return new ChatHistoryPageResponse(messages, hasMore ? fromIndex : null, hasMore);
+    }
+
+    /**
+     * 같은 대화의 턴은 앞선 턴의 응답이 저장된 뒤 도착 순서대로 처리 (다음 턴의 문맥에 앞선 응답이 포함됨)
+     * <p>
+     * 턴 락 대기와 Gemini 호출 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 처리 (메시지 추가는 version 확인으로 원자적)
+     */
     public ChatResponse fetchChatResponse(Long userId, String level, String conversationId, String userMessage,
                                           @Nullable MultipartFile imageFile) {
+        ChatSendLock.Permit permit = lockConversation(conversationId);
+        try {
+            ChatTurn turn = prepareChatTurn(userId, level, conversationId, userMessage, imageFile);
+            ChatConversation conversation = turn.conversation();
+
+            boolean appended = false;
+            try {
+                GeminiResponse response = geminiClient.generateContent(GeminiUseCase.CHAT, turn.request());
+                tokenUsageService.record(userId, response.usage());
+                String aiResponseText = parseResponse(response);
+                appendTurnMessages(turn, conversation.addMessage("ai", aiResponseText));
+                appended = true;
+                return new ChatResponse(aiResponseText, conversation.getId());
+            } finally {
+                if (!appended) {
+                    releaseUnsavedImage(turn);
+                }
+            }
+        } finally {
+            permit.close();
+        }
+    }
+
+    /**
+     * Gemini streamGenerateContent 응답을 받는 즉시 SSE 이벤트로 전달하고, 스트림 종료 후 전체 AI 메시지를 저장
+     */
+    public SseEmitter streamChatResponse(Long userId, String level, String conversationId, String userMessage,
+                                         @Nullable MultipartFile imageFile) {
+        // 턴 락은 스트림 처리 스레드가 응답을 저장한 뒤 해제
+        ChatSendLock.Permit permit = lockConversation(conversationId);
+        try {
+            // 업로드 파일은 요청 스레드가 끝나면 정리되므로 요청 본문 생성까지는 동기로 처리
+            ChatTurn turn = prepareChatTurn(userId, level, conversationId, userMessage, imageFile);
+            SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MILLIS);
+            try {
+                chatStreamExecutor.execute(() -> relayChatStream(turn, emitter, permit));
+            } catch (RuntimeException e) {
+                releaseUnsavedImage(turn);
+                throw e;
+            }
+            return emitter;
+        } catch (RuntimeException e) {
+            permit.close();
+            throw e;
+        }
+    }
+
+    @Transactional
+    public void deleteConversation(Long userId, String conversationId) {
+        ChatConversation conversation = chatConversationService.fetchById(conversationId);
+
+        if (!conversation.getUserId().equals(userId)) {
+            throw new UserUnauthorizedException();
+        }
+
+        List<ChatMessage> messages = chatConversationService.fetchAllMessages(conversation);
+        if (chatConversationService.deleteById(conversationId)) {
+            chatHistoryFragmentCache.evict(conversationId);
+            chatConversationService.releaseRoomSlot(userId, conversation.getTeacherLevel());
+            releaseImages(messages);
+        }
+        log.info("Chat room with id '{}' for user {} has been deleted.", conversationId, userId);
+    }
 
+    private ChatSendLock.Permit lockConversation(String conversationId) {
         if (conversationId == null || conversationId.isBlank()) {
             throw new ChatMessageNotFoundException();
         }
+        return chatSendLock.acquire(conversationId);
+    }
 
+    private ChatTurn prepareChatTurn(Long userId, String level, String conversationId, String userMessage,
+                                     @Nullable MultipartFile imageFile) {
         ChatConversation conversation = chatConversationService.fetchById(conversationId);
 
         if (!conversation.getUserId().equals(userId)) {
             throw new UserUnauthorizedException();
         }
 
-        if (conversation.getMessages().isEmpty()) {
+        // 하루 토큰 예산: 소진 시 거절, 한도에 가까우면 이미지 대화를 거절하고 문맥을 줄여 보냄
+        TokenBudgetStatus budgetStatus = tokenUsageService.checkBudget(userId);
+        if (budgetStatus == TokenBudgetStatus.EXHAUSTED) {
+            throw new TokenBudgetExceededException();
+        }
+        boolean degraded = budgetStatus == TokenBudgetStatus.DEGRADED;
+        if (degraded && imageFile != null && !imageFile.isEmpty()) {
+            throw new TokenBudgetImageLimitedException();
+        }
+
+        long knownMessageCount = conversation.getTailStartIndex() + conversation.getMessages().size();
+        List<ChatMessage> newMessages = new ArrayList<>();
+        if (conversation.hasNoMessages()) {
             User user = userReadService.fetchById(userId);
             ChatMessage firstAiMessage = createFirstMessageForLevel(level, user.getName());
-            conversation.addMessage(firstAiMessage.getSender(), firstAiMessage.getText());
+            newMessages.add(conversation.addMessage(firstAiMessage.getSender(), firstAiMessage.getText()));
         }
 
-        String imageUrl = null;
-        String imageBase64 = null;
-        String imageMimeType = null;
+        StoredFile storedImage = null;
         if (imageFile != null && !imageFile.isEmpty()) {
             try {
-                String savedFilename = storeFile(imageFile);
-                imageUrl = apiUrl + fileStorageProperties.getUploadUrlPrefix() + savedFilename;
-                imageBase64 = Base64.getEncoder().encodeToString(imageFile.getBytes());
-                imageMimeType = imageFile.getContentType();
-                conversation.addMessage("user", userMessage, imageUrl);
+                storedImage = storeFile(imageFile);
+            } catch (IOException e) {
+                throw new FileStorageException();
+            }
+        }
+
+        // 저장한 이미지는 메시지가 저장되어야 참조되므로, 턴을 만들지 못하면 바로 참조 수를 되돌림
+        try {
+            return buildChatTurn(conversation, level, userMessage, imageFile, storedImage, degraded,
+                    knownMessageCount, newMessages);
+        } catch (RuntimeException e) {
+            if (storedImage != null) {
+                contentAddressedFileStore.release(storedImage.key());
+            }
+            throw e;
+        }
+    }
+
+    private ChatTurn buildChatTurn(ChatConversation conversation, String level, String userMessage,
+                                   @Nullable MultipartFile imageFile, @Nullable StoredFile storedImage,
+                                   boolean degraded, long knownMessageCount, List<ChatMessage> newMessages) {
+        GeminiImageFile geminiImage = null;
+        if (storedImage != null) {
+            try {
+                geminiImage = prepareGeminiImage(storedImage, imageFile.getContentType());
             } catch (IOException e) {
                 throw new FileStorageException();
             }
+            newMessages.add(conversation.addMessage("user", userMessage, imageUrlPrefix() + storedImage.key()));
         } else {
-            conversation.addMessage("user", userMessage);
+            newMessages.add(conversation.addMessage("user", userMessage));
+        }
+
+        ChatContextWindow contextWindow = chatContextWindowBuilder.build(level,
+                chatConversationService.fetchRecentMessages(conversation), conversation.getSummary(),
+                conversation.getSummarizedMessageCount(),
+                degraded ? tokenBudgetProperties.getDegradedContextScale() : 1.0);
+        if (contextWindow.summaryOutdated()) {
+            geminiChatSummaryService.requestSummaryUpdate(conversation.getId(), contextWindow.startIndex());
         }
 
         String systemPrompt = createSystemPrompt(level);
-        String requestBody = createRequestBodyWithHistory(systemPrompt, conversation.getMessages(), imageBase64,
-                imageMimeType);
+        String cachedPrompt = chatPromptCache.lookup(level, systemPrompt);
+        List<SerializableString> serializedHistory = chatHistoryFragmentCache.fragmentsOf(conversation.getId(),
+                contextWindow);
+        GeminiChatRequest request = geminiImage == null
+                ? new GeminiChatRequest(systemPrompt, contextWindow, null, null, cachedPrompt, serializedHistory)
+                : new GeminiChatRequest(systemPrompt, contextWindow, geminiImage.path(), geminiImage.mimeType(),
+                        cachedPrompt, serializedHistory);
+        return new ChatTurn(conversation, knownMessageCount, newMessages, request,
+                storedImage == null ? null : storedImage.key());
+    }
+
+    /**
+     * 메시지를 저장하지 못한 턴의 업로드 이미지 참조를 되돌림 (다른 메시지가 같은 내용을 참조하면 파일은 유지)
+     */
+    private void releaseUnsavedImage(ChatTurn turn) {
+        if (turn.storedImageKey() == null) {
+            return;
+        }
+        try {
+            contentAddressedFileStore.release(turn.storedImageKey());
+        } catch (RuntimeException e) {
+            log.warn("저장되지 않은 턴의 이미지 참조 해제 실패 (key: {})", turn.storedImageKey(), e);
+        }
+    }
+
+    /**
+     * 이번 턴의 사용자 메시지와 AI 응답을 한 번의 $push로 추가 (대화 길이와 무관하게 쓰기량 일정)
+     * <p>
+     * 대화를 읽은 뒤 다른 요청이 먼저 썼으면 최신 version과 메시지 수만 다시 읽고, Gemini를 다시 부르지 않고 그 뒤에 재추가
+     * (다른 요청이 첫 인사말을 먼저 저장했다면 이번 턴의 인사말은 제외)
+     */
+    private void appendTurnMessages(ChatTurn turn, ChatMessage aiMessage) {
+        String conversationId = turn.conversation().getId();
+        List<ChatMessage> messages = new ArrayList<>(turn.newMessages());
+        messages.add(aiMessage);
+
+        long expectedVersion = turn.conversation().getVersion();
+        long knownMessageCount = turn.knownMessageCount();
+        boolean includesGreeting = knownMessageCount == 0;
+        for (int attempt = 1; !chatConversationService.appendMessages(conversationId, expectedVersion, messages);
+             attempt++) {
+            Counter.builder("chat.conversation.append.conflicts")
+                    .description("다른 요청이 먼저 써서 version 확인에 실패한 채팅 메시지 추가 횟수")
+                    .register(meterRegistry)
+                    .increment();
+            if (attempt >= MAX_APPEND_ATTEMPTS) {
+                log.warn("채팅 메시지 추가 충돌이 반복되어 저장 중단 (conversationId: {})", conversationId);
+                throw new ChatConversationConflictException();
+            }
+
+            ChatConversation latest = chatConversationService.fetchLatestById(conversationId);
+            long latestMessageCount = latest.getTailStartIndex() + latest.getMessages().size();
+            log.info("채팅 메시지 추가 충돌, 먼저 추가된 메시지 {}개 뒤에 다시 추가 (conversationId: {}, version: {} -> {})",
+                    latestMessageCount - knownMessageCount, conversationId, expectedVersion, latest.getVersion());
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        HttpEntity<String> entity = new HttpEntity<>(requestBody, headers);
-        String fullApiUrl = String.format(apiTemplate, apiKey);
+            if (includesGreeting && latestMessageCount > 0) {
+                messages.remove(0);
+                includesGreeting = false;
+            }
+            expectedVersion = latest.getVersion();
+            knownMessageCount = latestMessageCount;
+        }
+    }
 
+    private void relayChatStream(ChatTurn turn, SseEmitter emitter, ChatSendLock.Permit permit) {
+        ChatConversation conversation = turn.conversation();
+        ChatStreamRelay relay = new ChatStreamRelay(emitter);
+
+        boolean appended = false;
         try {
-            ResponseEntity<String> response = restTemplate.postForEntity(fullApiUrl, entity, String.class);
-            String aiResponseText = parseResponse(response.getBody());
-            conversation.addMessage("ai", aiResponseText);
-            chatConversationService.save(conversation);
-            return new ChatResponse(aiResponseText, conversation.getId());
-        } catch (HttpClientErrorException e) {
-            throw new GeminiApiException();
+            String aiResponseText = readChatStream(conversation.getUserId(), turn.request(), relay);
+
+            if (aiResponseText == null || aiResponseText.isBlank()) {
+                aiResponseText = "I'm sorry, I couldn't generate a proper response. The structure of the AI's reply was unexpected.";
+            }
+
+            appendTurnMessages(turn, conversation.addMessage("ai", aiResponseText));
+            appended = true;
+            relay.send(SseEmitter.event().name(STREAM_DONE_EVENT)
+                    .data(new ChatResponse(aiResponseText, conversation.getId()), MediaType.APPLICATION_JSON));
+            emitter.complete();
+        } catch (GeminiApiException e) {
+            log.error("Gemini 스트리밍 호출 실패 (conversationId: {})", conversation.getId(), e);
+            relay.sendError(ErrorCode.GEMINI_API_ERROR);
         } catch (Exception e) {
-            throw new ServerErrorException();
+            log.error("Gemini 스트리밍 처리 중 오류 발생 (conversationId: {})", conversation.getId(), e);
+            relay.sendError(ErrorCode.SERVER_ERROR);
+        } finally {
+            if (!appended) {
+                releaseUnsavedImage(turn);
+            }
+            permit.close();
         }
     }
 
-    @Transactional
-    public void deleteConversation(Long userId, String conversationId) {
-        ChatConversation conversation = chatConversationService.fetchById(conversationId);
+    /**
+     * alt=sse 응답의 "data:" 줄마다 텍스트 조각을 꺼내 클라이언트로 전달하고, 전체 응답 텍스트를 반환
+     */
+    private String readChatStream(Long userId, GeminiChatRequest request, ChatStreamRelay relay) {
+        StringBuilder fullText = new StringBuilder();
+        GeminiUsage usage = geminiClient.streamGenerateContent(request, line -> {
+            if (!line.startsWith(SSE_DATA_PREFIX)) {
+                return;
+            }
 
-        if (!conversation.getUserId().equals(userId)) {
-            throw new UserUnauthorizedException();
-        }
+            String chunk = parseStreamChunk(line.substring(SSE_DATA_PREFIX.length()).trim());
+            if (!chunk.isEmpty()) {
+                fullText.append(chunk);
+                relay.send(SseEmitter.event().name(STREAM_CHUNK_EVENT).data(chunk));
+            }
+        });
+        tokenUsageService.record(userId, usage);
+        return fullText.toString();
+    }
 
-        chatConversationService.deleteById(conversationId);
-        log.info("Chat room with id '{}' for user {} has been deleted.", conversationId, userId);
+    private String parseStreamChunk(String json) {
+        String text = geminiResponseParser.parse(json).text();
+        return text == null ? "" : text;
     }
 
     private ChatMessage createFirstMessageForLevel(String level, String userName) {
@@ -202,75 +442,115 @@ public class GeminiChatService {
         return new ChatMessage("ai", text, LocalDateTime.now());
     }
 
-    private String storeFile(MultipartFile file) throws IOException {
+    private StoredFile storeFile(MultipartFile file) throws IOException {
         String originalFilename = StringUtils.cleanPath(Objects.requireNonNull(file.getOriginalFilename()));
         String fileExtension = "";
         if (originalFilename.contains(".")) {
             fileExtension = originalFilename.substring(originalFilename.lastIndexOf("."));
         }
-        String storedFilename = UUID.randomUUID().toString() + fileExtension;
 
-        Path targetLocation = Paths.get(fileStorageProperties.getUploadDir()).resolve(storedFilename);
-        Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
+        try (InputStream content = file.getInputStream()) {
+            return contentAddressedFileStore.store(content, fileExtension);
+        }
+    }
+
+    /**
+     * 원본은 그대로 보관하고, Gemini에는 축소·재인코딩한 이미지 파일을 전송 (같은 원본의 축소본이 이미 있으면 재사용)
+     */
+    private GeminiImageFile prepareGeminiImage(StoredFile storedFile, @Nullable String contentType)
+            throws IOException {
+        Path derivedPath = contentAddressedFileStore.resolveVariant(storedFile.key(), DERIVED_IMAGE_SUFFIX);
+        if (storedFile.deduplicated() && Files.exists(derivedPath)) {
+            return new GeminiImageFile(derivedPath, ChatImagePreprocessor.OUTPUT_MIME_TYPE);
+        }
+
+        Path originalPath = contentAddressedFileStore.resolve(storedFile.key());
+        ChatImage geminiImage = chatImagePreprocessor.preprocess(originalPath, contentType);
+        if (!geminiImage.derived()) {
+            return new GeminiImageFile(originalPath, geminiImage.mimeType());
+        }
+
+        contentAddressedFileStore.writeVariant(storedFile.key(), DERIVED_IMAGE_SUFFIX, geminiImage.bytes());
+        return new GeminiImageFile(derivedPath, geminiImage.mimeType());
+    }
+
+    private void releaseImages(List<ChatMessage> messages) {
+        String prefix = imageUrlPrefix();
+        for (ChatMessage message : messages) {
+            String imageUrl = message.getImageUrl();
+            if (imageUrl == null || !imageUrl.startsWith(prefix)) {
+                continue;
+            }
+
+            String key = imageUrl.substring(prefix.length());
+            if (ContentAddressedFileStore.isManagedKey(key)) {
+                contentAddressedFileStore.release(key);
+            }
+        }
+    }
 
-        return storedFilename;
+    private String imageUrlPrefix() {
+        return apiUrl + fileStorageProperties.getUploadUrlPrefix();
     }
 
     private String createSystemPrompt(String level) {
-        return promptProperties.getChat().getOrDefault(
-                level, promptProperties.getChat().get("default")
-        );
+        return promptProperties.getChat().get(promptProperties.chatPromptKeyOf(level));
     }
 
-    private String parseResponse(String jsonResponse) {
-        try {
-            JsonNode rootNode = objectMapper.readTree(jsonResponse);
-            JsonNode textNode = rootNode.path("candidates").get(0).path("content").path("parts").get(0).path("text");
-            if (textNode.isMissingNode()) {
-                log.error("Could not find 'text' field in Gemini response: {}", jsonResponse);
-                return "I'm sorry, I couldn't generate a proper response. The structure of the AI's reply was unexpected.";
-            }
-            return textNode.asText();
-        } catch (Exception e) {
-            log.error("Error parsing Gemini JSON response: {}", jsonResponse, e);
-            return "There was an issue processing the AI's response.";
+    private String parseResponse(GeminiResponse response) {
+        if (response.text() == null) {
+            log.error("Could not find 'text' field in Gemini response (finishReason: {})", response.finishReason());
+            return "I'm sorry, I couldn't generate a proper response. The structure of the AI's reply was unexpected.";
         }
+        return response.text();
     }
 
-    private String createRequestBodyWithHistory(String systemPrompt, List<ChatMessage> messages,
-                                                @Nullable String imageBase64, @Nullable String imageMimeType) {
-        Map<String, Object> requestMap = new HashMap<>();
-        List<Map<String, Object>> contents = new ArrayList<>();
-
-        contents.add(Map.of("role", "user", "parts", List.of(Map.of("text", systemPrompt))));
-        contents.add(Map.of("role", "model", "parts", List.of(Map.of("text", "Okay, I'm ready..."))));
-
-        for (int i = 0; i < messages.size(); i++) {
-            ChatMessage message = messages.get(i);
-            String role = "ai".equalsIgnoreCase(message.getSender()) ? "model" : "user";
-
-            if (i == messages.size() - 1 && "user".equals(role) && imageBase64 != null) {
-                List<Map<String, Object>> parts = new ArrayList<>();
-                parts.add(Map.of(
-                        "inline_data", Map.of(
-                                "mime_type", imageMimeType,
-                                "data", imageBase64
-                        )
-                ));
-                if (message.getText() != null && !message.getText().isBlank()) {
-                    parts.add(Map.of("text", message.getText()));
-                }
-                contents.add(Map.of("role", role, "parts", parts));
-            } else {
-                contents.add(Map.of("role", role, "parts", List.of(Map.of("text", message.getText()))));
+    /**
+     * @param knownMessageCount 대화를 읽은 시점의 전체 메시지 수 (이번 턴에 추가한 메시지 제외)
+     * @param storedImageKey    이번 턴에 저장한 업로드 이미지 (메시지를 저장하지 못하면 참조를 되돌림)
+     */
+    private record ChatTurn(ChatConversation conversation, long knownMessageCount, List<ChatMessage> newMessages,
+                            GeminiChatRequest request, @Nullable String storedImageKey) {
+
+    }
+
+    private record GeminiImageFile(Path path, @Nullable String mimeType) {
+
+    }
+
+    /**
+     * 클라이언트 연결이 끊겨도 Gemini 응답은 끝까지 읽어 저장할 수 있도록 전송 실패를 흡수
+     */
+    private static class ChatStreamRelay {
+
+        private final SseEmitter emitter;
+        private volatile boolean connected = true;
+
+        private ChatStreamRelay(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void send(SseEmitter.SseEventBuilder event) {
+            if (!connected) {
+                return;
+            }
+
+            try {
+                emitter.send(event);
+            } catch (IOException | IllegalStateException e) {
+                connected = false;
+                log.info("SSE 클라이언트 연결 종료, 남은 응답은 저장만 진행");
             }
         }
-        requestMap.put("contents", contents);
-        try {
-            return objectMapper.writeValueAsString(requestMap);
-        } catch (Exception e) {
-            throw new ServerErrorException();
+
+        private void sendError(ErrorCode errorCode) {
+            send(SseEmitter.event().name(STREAM_ERROR_EVENT)
+                    .data(new ErrorResponse(errorCode), MediaType.APPLICATION_JSON));
+            if (connected) {
+                emitter.complete();
+            }
         }
+
     }
 
 }
\ No newline at end of file
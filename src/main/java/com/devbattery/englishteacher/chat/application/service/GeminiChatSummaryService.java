@@ -0,0 +1,126 @@
+package com.devbattery.englishteacher.chat.application.service;
+
+import com.devbattery.englishteacher.chat.domain.ChatConversation;
+import com.devbattery.englishteacher.chat.domain.ChatMessage;
+import com.devbattery.englishteacher.common.config.ChatContextProperties;
+import com.devbattery.englishteacher.common.gemini.GeminiClient;
+import com.devbattery.englishteacher.common.gemini.GeminiResponse;
+import com.devbattery.englishteacher.common.gemini.GeminiUseCase;
+import com.devbattery.englishteacher.usage.application.TokenUsageService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+/**
+ * 컨텍스트 윈도우 밖으로 밀려난 대화를 백그라운드에서 롤링 요약으로 누적
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GeminiChatSummaryService {
+
+    private static final String SUMMARY_PROMPT = """
+            You maintain a running summary of an English tutoring chat between a student ("user") and \
+            an AI English teacher ("ai"). Update the existing summary with the new messages below. \
+            Keep facts about the student, topics discussed, corrections given and open questions. \
+            Write at most 200 words of plain English prose and reply with the summary only.
+
+            Existing summary:
+            %s
+
+            New messages:
+            %s""";
+
+    private final GeminiClient geminiClient;
+    private final ObjectMapper objectMapper;
+    private final ChatConversationService chatConversationService;
+    private final ChatContextProperties contextProperties;
+    private final TaskExecutor chatSummaryExecutor;
+    private final TokenUsageService tokenUsageService;
+
+    private final Set<String> summarizingConversationIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * targetIndex 직전 메시지까지 요약이 따라오도록 백그라운드 갱신을 요청 (대화별로 동시에 하나만 실행)
+     */
+    public void requestSummaryUpdate(String conversationId, long targetIndex) {
+        if (!summarizingConversationIds.add(conversationId)) {
+            return;
+        }
+
+        try {
+            chatSummaryExecutor.execute(() -> {
+                try {
+                    summarizeUpTo(conversationId, targetIndex);
+                } catch (Exception e) {
+                    log.error("대화 요약 갱신 실패 (conversationId: {})", conversationId, e);
+                } finally {
+                    summarizingConversationIds.remove(conversationId);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            summarizingConversationIds.remove(conversationId);
+            log.warn("요약 작업 대기열이 가득 차 다음 턴에 다시 시도 (conversationId: {})", conversationId);
+        }
+    }
+
+    private void summarizeUpTo(String conversationId, long targetIndex) {
+        ChatConversation conversation = chatConversationService.fetchById(conversationId);
+        String summary = conversation.getSummary();
+        long summarizedCount = conversation.getSummarizedMessageCount();
+
+        while (summarizedCount < targetIndex) {
+            long to = Math.min(targetIndex, summarizedCount + contextProperties.getSummaryBatchSize());
+            List<ChatMessage> messages = chatConversationService.fetchMessages(conversation, summarizedCount, to);
+            if (messages.isEmpty()) {
+                return;
+            }
+
+            String updatedSummary = summarize(conversation.getUserId(), summary, messages);
+            long updatedCount = summarizedCount + messages.size();
+            if (!chatConversationService.updateSummary(conversationId, summarizedCount, updatedSummary,
+                    updatedCount)) {
+                log.info("다른 작업이 먼저 요약을 갱신하여 중단 (conversationId: {})", conversationId);
+                return;
+            }
+
+            summary = updatedSummary;
+            summarizedCount = updatedCount;
+        }
+        log.info("대화 요약 갱신 완료 (conversationId: {}, 요약된 메시지: {})", conversationId, summarizedCount);
+    }
+
+    private String summarize(Long userId, @Nullable String previousSummary, List<ChatMessage> messages) {
+        StringBuilder transcript = new StringBuilder();
+        for (ChatMessage message : messages) {
+            transcript.append(message.getSender()).append(": ").append(message.getText()).append('\n');
+        }
+        String prompt = String.format(SUMMARY_PROMPT, previousSummary == null ? "(none)" : previousSummary,
+                transcript);
+
+        Map<String, Object> part = Map.of("text", prompt);
+        Map<String, Object> content = Map.of("role", "user", "parts", List.of(part));
+        Map<String, Object> requestBodyMap = Map.of("contents", List.of(content));
+
+        try {
+            String requestBody = objectMapper.writeValueAsString(requestBodyMap);
+            GeminiResponse response = geminiClient.generateContent(GeminiUseCase.CHAT_SUMMARY, requestBody);
+            tokenUsageService.record(userId, response.usage());
+            if (!response.hasText()) {
+                throw new IllegalStateException("Gemini 요약 응답에 text 필드가 없음");
+            }
+            return response.text().trim();
+        } catch (Exception e) {
+            throw new IllegalStateException("Gemini 요약 호출 실패", e);
+        }
+    }
+
+}
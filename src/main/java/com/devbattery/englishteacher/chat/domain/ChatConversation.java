@@ -8,21 +8,53 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Document(collection = "conversations")
+@CompoundIndex(name = "user_level_last_modified_idx", def = "{'userId': 1, 'teacherLevel': 1, 'lastModifiedAt': -1}")
 public class ChatConversation {
 
+    public static final String EMPTY_PREVIEW = "새로운 대화";
+    public static final int PREVIEW_LENGTH = 30;
+
     @Id
     private String id;
 
     private Long userId;
     private String teacherLevel;
 
+    /**
+     * 아직 버킷으로 보관되지 않은 최근 메시지 (tail 버킷)
+     */
     private List<ChatMessage> messages = new ArrayList<>();
 
+    /**
+     * conversation_message_buckets에 보관된 가득 찬 버킷 수
+     */
+    private int bucketCount;
+
+    /**
+     * 앞쪽 summarizedMessageCount개 메시지의 롤링 요약
+     */
+    private String summary;
+    private long summarizedMessageCount;
+
+    /**
+     * 채팅방 목록용 비정규화 필드 (목록 조회 시 messages를 읽지 않기 위함)
+     */
+    private String lastMessagePreview;
+    private long messageCount;
+
+    /**
+     * 문서를 바꾸는 모든 쓰기마다 1씩 증가 (메시지 추가는 읽은 시점의 version일 때만 반영되고, 캐시된 문서가 최신인지 비교하는 기준)
+     */
+    @Version
+    private long version;
+
     @LastModifiedDate
     public LocalDateTime lastModifiedAt;
 
@@ -31,12 +63,37 @@ public class ChatConversation {
         this.teacherLevel = teacherLevel;
     }
 
-    public void addMessage(String sender, String text) {
-        this.messages.add(new ChatMessage(sender, text, LocalDateTime.now()));
+    public boolean hasNoMessages() {
+        return bucketCount == 0 && messages.isEmpty();
+    }
+
+    /**
+     * tail 첫 메시지의 대화 전체 기준 순번
+     */
+    public long getTailStartIndex() {
+        return (long) bucketCount * ChatMessageBucket.CAPACITY;
+    }
+
+    public ChatMessage addMessage(String sender, String text) {
+        return add(new ChatMessage(sender, text, LocalDateTime.now()));
+    }
+
+    public ChatMessage addMessage(String sender, String text, String imageUrl) {
+        return add(new ChatMessage(sender, text, LocalDateTime.now(), imageUrl));
+    }
+
+    public static String previewOf(String text) {
+        if (text == null || text.isEmpty()) {
+            return EMPTY_PREVIEW;
+        }
+        return text.length() > PREVIEW_LENGTH ? text.substring(0, PREVIEW_LENGTH) + "..." : text;
     }
 
-    public void addMessage(String sender, String text, String imageUrl) {
-        this.messages.add(new ChatMessage(sender, text, LocalDateTime.now(), imageUrl));
+    private ChatMessage add(ChatMessage message) {
+        this.messages.add(message);
+        this.messageCount++;
+        this.lastMessagePreview = previewOf(message.getText());
+        return message;
     }
 
 }
@@ -0,0 +1,37 @@
+package com.devbattery.englishteacher.chat.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * 대화에서 밀려난 메시지를 CAPACITY 단위로 보관하는 고정 크기 버킷 (sequence 0부터 순서대로 증가)
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Document(collection = "conversation_message_buckets")
+@CompoundIndex(name = "conversation_sequence_idx", def = "{'conversationId': 1, 'sequence': 1}", unique = true)
+public class ChatMessageBucket {
+
+    public static final int CAPACITY = 50;
+
+    @Id
+    private String id;
+
+    private String conversationId;
+    private int sequence;
+
+    private List<ChatMessage> messages = new ArrayList<>();
+
+    public ChatMessageBucket(String conversationId, int sequence, List<ChatMessage> messages) {
+        this.conversationId = conversationId;
+        this.sequence = sequence;
+        this.messages = messages;
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.devbattery.englishteacher.chat.domain;
+
+import java.util.List;
+
+/**
+ * 대화 전체 기준 startIndex부터 이어지는 연속된 메시지 구간
+ */
+public record ChatMessageSlice(long startIndex, List<ChatMessage> messages) {
+
+    public long endIndex() {
+        return startIndex + messages.size();
+    }
+
+}
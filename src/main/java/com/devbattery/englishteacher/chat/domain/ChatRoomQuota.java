@@ -0,0 +1,35 @@
+package com.devbattery.englishteacher.chat.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * (사용자, 레벨)별 채팅방 수 카운터 (조건부 $inc로 생성 한도를 원자적으로 지킴)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Document(collection = "chat_room_quotas")
+public class ChatRoomQuota {
+
+    @Id
+    private String id;
+
+    private Long userId;
+    private String teacherLevel;
+    private long count;
+
+    public ChatRoomQuota(Long userId, String teacherLevel, long count) {
+        this.id = idOf(userId, teacherLevel);
+        this.userId = userId;
+        this.teacherLevel = teacherLevel;
+        this.count = count;
+    }
+
+    public static String idOf(Long userId, String teacherLevel) {
+        return userId + ":" + teacherLevel;
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.devbattery.englishteacher.chat.domain.repository;
 
 import com.devbattery.englishteacher.chat.domain.ChatConversation;
+import com.devbattery.englishteacher.chat.domain.ChatMessage;
 import java.util.List;
 import java.util.Optional;
 
@@ -8,12 +9,41 @@ public interface ChatConversationRepository {
 
     Optional<ChatConversation> findById(String conversationId);
 
-    List<ChatConversation> findAllByUserIdAndTeacherLevel(Long userId, String teacherLevel);
+    /**
+     * 캐시를 거치지 않고 저장소에서 최신 문서를 조회 (쓰기 충돌 후 다시 읽을 때 사용)
+     */
+    Optional<ChatConversation> findLatestById(String conversationId);
+
+    /**
+     * messages를 제외한 채팅방 요약 필드만 lastModifiedAt 내림차순으로 조회
+     */
+    List<ChatConversation> findAllSummariesByUserIdAndTeacherLevel(Long userId, String teacherLevel);
 
     long countByUserIdAndTeacherLevel(Long userId, String teacherLevel);
 
     void save(ChatConversation chatConversation);
 
-    void deleteById(String conversationId);
+    /**
+     * 메시지 배열 전체를 다시 쓰지 않고 $push로 새 메시지만 추가하며, lastModifiedAt도 같은 연산에서 갱신
+     * <p>
+     * 문서의 version이 expectedVersion일 때만 추가 (그 사이 다른 쓰기가 있었으면 false)
+     */
+    boolean appendMessages(String conversationId, long expectedVersion, List<ChatMessage> messages);
+
+    /**
+     * tail이 버킷 크기를 넘으면 앞쪽 메시지를 버킷 단위로 conversation_message_buckets에 옮김
+     */
+    void archiveOverflowMessages(String conversationId);
+
+    /**
+     * 요약된 메시지 수가 expectedSummarizedCount일 때만 요약을 교체 (동시 갱신 시 false)
+     */
+    boolean updateSummary(String conversationId, long expectedSummarizedCount, String summary,
+                          long summarizedMessageCount);
+
+    /**
+     * 대화와 보관된 버킷을 삭제하고, 이 호출로 대화 문서가 실제로 삭제되었는지 반환
+     */
+    boolean deleteById(String conversationId);
 
 }
\ No newline at end of file
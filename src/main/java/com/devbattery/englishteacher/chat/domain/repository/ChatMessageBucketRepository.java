@@ -0,0 +1,26 @@
+package com.devbattery.englishteacher.chat.domain.repository;
+
+import com.devbattery.englishteacher.chat.domain.ChatMessageBucket;
+import java.util.List;
+import java.util.Optional;
+
+public interface ChatMessageBucketRepository {
+
+    /**
+     * 같은 (conversationId, sequence) 버킷이 이미 있으면 아무것도 하지 않음 (보관 작업 재시도에 안전)
+     */
+    void insertIfAbsent(ChatMessageBucket bucket);
+
+    Optional<ChatMessageBucket> findByConversationIdAndSequence(String conversationId, int sequence);
+
+    List<ChatMessageBucket> findAllByConversationId(String conversationId);
+
+    /**
+     * fromSequence 이상 toSequence 이하의 버킷을 sequence 순으로 조회
+     */
+    List<ChatMessageBucket> findAllByConversationIdAndSequenceRange(String conversationId, int fromSequence,
+                                                                    int toSequence);
+
+    void deleteAllByConversationId(String conversationId);
+
+}
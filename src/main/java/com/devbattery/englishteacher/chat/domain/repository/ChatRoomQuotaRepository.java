@@ -0,0 +1,22 @@
+package com.devbattery.englishteacher.chat.domain.repository;
+
+public interface ChatRoomQuotaRepository {
+
+    /**
+     * 카운터가 limit 미만일 때만 1 증가시키고 성공 여부를 반환 (카운터가 없으면 false)
+     */
+    boolean tryIncrement(Long userId, String teacherLevel, long limit);
+
+    boolean exists(Long userId, String teacherLevel);
+
+    /**
+     * 카운터가 없을 때만 count로 생성 (동시에 생성되면 먼저 만든 값을 유지)
+     */
+    void insertIfAbsent(Long userId, String teacherLevel, long count);
+
+    /**
+     * 0보다 클 때만 1 감소
+     */
+    void decrement(Long userId, String teacherLevel);
+
+}
@@ -0,0 +1,213 @@
+package com.devbattery.englishteacher.chat.infra.persistence;
+
+import com.devbattery.englishteacher.chat.domain.ChatConversation;
+import com.devbattery.englishteacher.common.config.ChatConversationCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 최근 사용한 대화 문서를 로컬(Caffeine)과 선택적으로 Redis에 보관하는 write-through 캐시
+ * <p>
+ * 문서는 Mongo 매핑 결과(Document)로 보관하고 조회마다 새 엔티티로 변환 (호출자가 엔티티를 수정해도 캐시는 그대로)
+ * 쓰기마다 증가하는 version이 더 낮은 문서로는 덮어쓰지 않으며,
+ * Redis 공유 시 로컬 항목은 Redis의 version과 같을 때만 사용하고 다르면 Redis의 문서로 교체
+ * (Redis를 끄면 local-only로 단일 인스턴스임을 명시했을 때만 로컬 캐시를 사용)
+ */
+@Slf4j
+@Component
+public class ChatConversationCache {
+
+    private static final String CONVERSATION_CACHE_PREFIX = "chat_conversation:";
+    private static final String CURRENT = "";
+    private static final JsonWriterSettings JSON_SETTINGS = JsonWriterSettings.builder()
+            .outputMode(JsonMode.EXTENDED)
+            .build();
+
+    /**
+     * Redis version이 ARGV[1]과 같으면 빈 문자열, 다르면 Redis의 문서, 없으면 nil (조회 시 TTL 연장)
+     */
+    private static final RedisScript<String> GET_SCRIPT = new DefaultRedisScript<>("""
+            local cached = redis.call('HMGET', KEYS[1], 'version', 'document')
+            if not cached[1] then
+                return false
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            if cached[1] == ARGV[1] then
+                return ''
+            end
+            return cached[2]
+            """, String.class);
+
+    /**
+     * 저장된 version보다 낮지 않을 때만 저장
+     */
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>("""
+            local version = redis.call('HGET', KEYS[1], 'version')
+            if version and tonumber(version) > tonumber(ARGV[1]) then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'version', ARGV[1], 'document', ARGV[2])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    private final MongoConverter mongoConverter;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ChatConversationCacheProperties cacheProperties;
+    private final Cache<String, CachedConversation> localCache;
+    private final Counter localHits;
+    private final Counter redisHits;
+    private final Counter misses;
+
+    public ChatConversationCache(MongoConverter mongoConverter, StringRedisTemplate stringRedisTemplate,
+                                 ChatConversationCacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        this.mongoConverter = mongoConverter;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.cacheProperties = cacheProperties;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(cacheProperties.getMaxSize())
+                .expireAfterAccess(cacheProperties.getLocalTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "chatConversations");
+        this.localHits = lookupCounter(meterRegistry, "local");
+        this.redisHits = lookupCounter(meterRegistry, "redis");
+        this.misses = lookupCounter(meterRegistry, "miss");
+    }
+
+    public Optional<ChatConversation> get(String conversationId) {
+        if (!isActive()) {
+            return Optional.empty();
+        }
+
+        CachedConversation local = localCache.getIfPresent(conversationId);
+        if (!cacheProperties.isRedisEnabled()) {
+            (local == null ? misses : localHits).increment();
+            return Optional.ofNullable(local).map(this::toConversation);
+        }
+
+        String shared = fetchShared(conversationId, local);
+        if (shared == null) {
+            localCache.invalidate(conversationId);
+            misses.increment();
+            return Optional.empty();
+        }
+        if (CURRENT.equals(shared)) {
+            localHits.increment();
+            return Optional.of(toConversation(local));
+        }
+
+        CachedConversation cached = CachedConversation.of(Document.parse(shared));
+        putLocal(conversationId, cached);
+        redisHits.increment();
+        return Optional.of(toConversation(cached));
+    }
+
+    public void put(ChatConversation conversation) {
+        if (!isActive() || conversation.getId() == null) {
+            return;
+        }
+
+        Document document = new Document();
+        mongoConverter.write(conversation, document);
+        CachedConversation cached = CachedConversation.of(document);
+        putLocal(conversation.getId(), cached);
+
+        if (cacheProperties.isRedisEnabled()) {
+            try {
+                stringRedisTemplate.execute(PUT_SCRIPT, List.of(keyOf(conversation.getId())),
+                        String.valueOf(cached.version()), document.toJson(JSON_SETTINGS),
+                        String.valueOf(cacheProperties.getRedisTtl().toMillis()));
+            } catch (RuntimeException e) {
+                // 이전 version이 Redis에 남아 있으면 다른 인스턴스가 그 문서를 최신으로 보므로 삭제 시도
+                log.warn("대화 캐시 Redis 저장 실패 (conversationId: {}): {}", conversation.getId(), e.getMessage());
+                evictShared(conversation.getId());
+            }
+        }
+    }
+
+    public void evict(String conversationId) {
+        localCache.invalidate(conversationId);
+        if (cacheProperties.isRedisEnabled()) {
+            evictShared(conversationId);
+        }
+    }
+
+    /**
+     * 로컬 캐시만으로는 다른 인스턴스의 쓰기를 알 수 없으므로, Redis 공유나 단일 인스턴스 운영일 때만 사용
+     */
+    private boolean isActive() {
+        return cacheProperties.isEnabled() && (cacheProperties.isRedisEnabled() || cacheProperties.isLocalOnly());
+    }
+
+    /**
+     * Redis 장애 시에는 캐시가 없는 것으로 보고 Mongo에서 조회
+     */
+    @Nullable
+    private String fetchShared(String conversationId, @Nullable CachedConversation local) {
+        try {
+            return stringRedisTemplate.execute(GET_SCRIPT, List.of(keyOf(conversationId)),
+                    local == null ? "" : String.valueOf(local.version()),
+                    String.valueOf(cacheProperties.getRedisTtl().toMillis()));
+        } catch (RuntimeException e) {
+            log.warn("대화 캐시 Redis 조회 실패 (conversationId: {}): {}", conversationId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void evictShared(String conversationId) {
+        try {
+            stringRedisTemplate.delete(keyOf(conversationId));
+        } catch (RuntimeException e) {
+            log.warn("대화 캐시 Redis 삭제 실패 (conversationId: {}): {}", conversationId, e.getMessage());
+        }
+    }
+
+    private void putLocal(String conversationId, CachedConversation cached) {
+        localCache.asMap().merge(conversationId, cached,
+                (existing, candidate) -> candidate.version() >= existing.version() ? candidate : existing);
+    }
+
+    private ChatConversation toConversation(CachedConversation cached) {
+        return mongoConverter.read(ChatConversation.class, cached.document());
+    }
+
+    private static String keyOf(String conversationId) {
+        return CONVERSATION_CACHE_PREFIX + conversationId;
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("chat.conversation.cache.lookups")
+                .description("대화 조회 시 캐시 적중 위치")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param document 변환 후 수정하지 않는 Mongo 문서 (조회마다 새 엔티티로 변환)
+     */
+    private record CachedConversation(long version, Document document) {
+
+        static CachedConversation of(Document document) {
+            Number version = document.get("version", Number.class);
+            return new CachedConversation(version == null ? 0 : version.longValue(), document);
+        }
+
+    }
+
+}
@@ -1,11 +1,25 @@
 package com.devbattery.englishteacher.chat.infra.persistence;
 
 import com.devbattery.englishteacher.chat.domain.ChatConversation;
+import com.devbattery.englishteacher.chat.domain.ChatMessage;
+import com.devbattery.englishteacher.chat.domain.ChatMessageBucket;
 import com.devbattery.englishteacher.chat.domain.repository.ChatConversationRepository;
+import com.devbattery.englishteacher.chat.domain.repository.ChatMessageBucketRepository;
 import com.devbattery.englishteacher.chat.infra.persistence.mongodb.ChatConversationMongoRepository;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ArithmeticOperators;
+import org.springframework.data.mongodb.core.aggregation.ArrayOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -13,15 +27,33 @@ import org.springframework.stereotype.Repository;
 public class ChatConversationRepositoryImpl implements ChatConversationRepository {
 
     private final ChatConversationMongoRepository mongoRepository;
+    private final ChatMessageBucketRepository chatMessageBucketRepository;
+    private final MongoTemplate mongoTemplate;
+    private final ChatConversationCache chatConversationCache;
 
     @Override
     public Optional<ChatConversation> findById(String conversationId) {
-        return mongoRepository.findById(conversationId);
+        Optional<ChatConversation> cached = chatConversationCache.get(conversationId);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        return findLatestById(conversationId);
     }
 
     @Override
-    public List<ChatConversation> findAllByUserIdAndTeacherLevel(Long userId, String teacherLevel) {
-        return mongoRepository.findAllByUserIdAndTeacherLevel(userId, teacherLevel);
+    public Optional<ChatConversation> findLatestById(String conversationId) {
+        Optional<ChatConversation> conversation = mongoRepository.findById(conversationId);
+        conversation.ifPresent(chatConversationCache::put);
+        return conversation;
+    }
+
+    @Override
+    public List<ChatConversation> findAllSummariesByUserIdAndTeacherLevel(Long userId, String teacherLevel) {
+        Query query = Query.query(Criteria.where("userId").is(userId).and("teacherLevel").is(teacherLevel))
+                .with(Sort.by(Sort.Direction.DESC, "lastModifiedAt"));
+        query.fields().include("userId", "teacherLevel", "lastMessagePreview", "messageCount", "lastModifiedAt");
+        return mongoTemplate.find(query, ChatConversation.class);
     }
 
     @Override
@@ -32,11 +64,104 @@ public class ChatConversationRepositoryImpl implements ChatConversationRepositor
     @Override
     public void save(ChatConversation chatConversation) {
         mongoRepository.save(chatConversation);
+        chatConversationCache.put(chatConversation);
     }
 
     @Override
-    public void deleteById(String conversationId) {
-        mongoRepository.deleteById(conversationId);
+    public boolean appendMessages(String conversationId, long expectedVersion, List<ChatMessage> messages) {
+        Query query = Query.query(Criteria.where("_id").is(conversationId)
+                .and("version").in(orMissingIfZero(expectedVersion)));
+        Update update = new Update()
+                .push("messages").each(messages.toArray())
+                .inc("messageCount", messages.size())
+                .set("lastMessagePreview", ChatConversation.previewOf(messages.get(messages.size() - 1).getText()))
+                .set("lastModifiedAt", LocalDateTime.now())
+                .inc("version", 1);
+        // 갱신된 문서를 같은 왕복에서 받아 캐시에 반영 (tail이 넘쳐 보관이 필요하면 보관 후 캐시에서 제거)
+        ChatConversation updated = mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), ChatConversation.class);
+        if (updated == null) {
+            // version이 달라졌거나 삭제된 대화 (캐시된 문서도 더 이상 최신이 아님)
+            chatConversationCache.evict(conversationId);
+            return false;
+        }
+        if (updated.getMessages().size() > ChatMessageBucket.CAPACITY) {
+            archiveOverflowMessages(conversationId);
+            chatConversationCache.evict(conversationId);
+        } else {
+            chatConversationCache.put(updated);
+        }
+        return true;
+    }
+
+    @Override
+    public void archiveOverflowMessages(String conversationId) {
+        boolean archived = false;
+        while (true) {
+            // tail에 항상 최소 1개의 메시지가 남도록 CAPACITY를 초과했을 때만 보관
+            Query overflowing = Query.query(Criteria.where("_id").is(conversationId)
+                    .and("messages." + ChatMessageBucket.CAPACITY).exists(true));
+            overflowing.fields().include("bucketCount").slice("messages", ChatMessageBucket.CAPACITY);
+            ChatConversation tail = mongoTemplate.findOne(overflowing, ChatConversation.class);
+            if (tail == null) {
+                if (archived) {
+                    chatConversationCache.evict(conversationId);
+                }
+                return;
+            }
+
+            int sequence = tail.getBucketCount();
+            chatMessageBucketRepository.insertIfAbsent(
+                    new ChatMessageBucket(conversationId, sequence, tail.getMessages()));
+
+            // 다른 요청이 먼저 옮겼다면 bucketCount가 달라져 갱신되지 않고, 다음 반복에서 다시 확인
+            Query unchanged = Query.query(Criteria.where("_id").is(conversationId)
+                    .and("bucketCount").in(orMissingIfZero(sequence))
+                    .and("messages." + ChatMessageBucket.CAPACITY).exists(true));
+            AggregationUpdate shiftTail = AggregationUpdate.update()
+                    .set("messages").toValueOf(ArrayOperators.Slice.sliceArrayOf("messages")
+                            .offset(ChatMessageBucket.CAPACITY)
+                            .itemCount(ArrayOperators.Size.lengthOfArray("messages")))
+                    .set("bucketCount").toValue(sequence + 1)
+                    .set("version").toValue(ArithmeticOperators.Add.valueOf(
+                            ConditionalOperators.ifNull("version").then(0)).add(1));
+            mongoTemplate.updateFirst(unchanged, shiftTail, ChatConversation.class);
+            archived = true;
+        }
+    }
+
+    @Override
+    public boolean updateSummary(String conversationId, long expectedSummarizedCount, String summary,
+                                 long summarizedMessageCount) {
+        Query query = Query.query(Criteria.where("_id").is(conversationId)
+                .and("summarizedMessageCount").in(orMissingIfZero(expectedSummarizedCount)));
+        Update update = new Update()
+                .set("summary", summary)
+                .set("summarizedMessageCount", summarizedMessageCount)
+                .inc("version", 1);
+        ChatConversation updated = mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), ChatConversation.class);
+        if (updated == null) {
+            return false;
+        }
+        chatConversationCache.put(updated);
+        return true;
+    }
+
+    @Override
+    public boolean deleteById(String conversationId) {
+        long deletedCount = mongoTemplate.remove(Query.query(Criteria.where("_id").is(conversationId)),
+                ChatConversation.class).getDeletedCount();
+        chatConversationCache.evict(conversationId);
+        chatMessageBucketRepository.deleteAllByConversationId(conversationId);
+        return deletedCount > 0;
+    }
+
+    /**
+     * 필드 도입 이전 문서는 값이 없으므로 0과 함께 null(미존재)도 일치시킴
+     */
+    private Object[] orMissingIfZero(long value) {
+        return value == 0 ? new Object[]{0, null} : new Object[]{value};
     }
 
 }
\ No newline at end of file
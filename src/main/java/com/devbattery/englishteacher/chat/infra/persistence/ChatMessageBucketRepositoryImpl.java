@@ -0,0 +1,60 @@
+package com.devbattery.englishteacher.chat.infra.persistence;
+
+import com.devbattery.englishteacher.chat.domain.ChatMessageBucket;
+import com.devbattery.englishteacher.chat.domain.repository.ChatMessageBucketRepository;
+import com.devbattery.englishteacher.chat.infra.persistence.mongodb.ChatMessageBucketMongoRepository;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageBucketRepositoryImpl implements ChatMessageBucketRepository {
+
+    private final ChatMessageBucketMongoRepository mongoRepository;
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void insertIfAbsent(ChatMessageBucket bucket) {
+        Query query = Query.query(Criteria.where("conversationId").is(bucket.getConversationId())
+                .and("sequence").is(bucket.getSequence()));
+        Update update = new Update().setOnInsert("messages", bucket.getMessages());
+        try {
+            mongoTemplate.upsert(query, update, ChatMessageBucket.class);
+        } catch (DuplicateKeyException e) {
+            // 동시에 같은 버킷을 보관한 경우로, 이미 저장된 버킷을 그대로 사용
+        }
+    }
+
+    @Override
+    public Optional<ChatMessageBucket> findByConversationIdAndSequence(String conversationId, int sequence) {
+        return mongoRepository.findByConversationIdAndSequence(conversationId, sequence);
+    }
+
+    @Override
+    public List<ChatMessageBucket> findAllByConversationId(String conversationId) {
+        return mongoRepository.findAllByConversationIdOrderBySequenceAsc(conversationId);
+    }
+
+    @Override
+    public List<ChatMessageBucket> findAllByConversationIdAndSequenceRange(String conversationId, int fromSequence,
+                                                                           int toSequence) {
+        Query query = Query.query(Criteria.where("conversationId").is(conversationId)
+                        .and("sequence").gte(fromSequence).lte(toSequence))
+                .with(Sort.by(Sort.Direction.ASC, "sequence"));
+        return mongoTemplate.find(query, ChatMessageBucket.class);
+    }
+
+    @Override
+    public void deleteAllByConversationId(String conversationId) {
+        mongoRepository.deleteAllByConversationId(conversationId);
+    }
+
+}
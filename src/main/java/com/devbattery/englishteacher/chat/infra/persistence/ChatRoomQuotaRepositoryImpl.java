@@ -0,0 +1,49 @@
+package com.devbattery.englishteacher.chat.infra.persistence;
+
+import com.devbattery.englishteacher.chat.domain.ChatRoomQuota;
+import com.devbattery.englishteacher.chat.domain.repository.ChatRoomQuotaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class ChatRoomQuotaRepositoryImpl implements ChatRoomQuotaRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public boolean tryIncrement(Long userId, String teacherLevel, long limit) {
+        Query belowLimit = Query.query(Criteria.where("_id").is(ChatRoomQuota.idOf(userId, teacherLevel))
+                .and("count").lt(limit));
+        return mongoTemplate.updateFirst(belowLimit, new Update().inc("count", 1), ChatRoomQuota.class)
+                .getModifiedCount() > 0;
+    }
+
+    @Override
+    public boolean exists(Long userId, String teacherLevel) {
+        return mongoTemplate.exists(Query.query(Criteria.where("_id").is(ChatRoomQuota.idOf(userId, teacherLevel))),
+                ChatRoomQuota.class);
+    }
+
+    @Override
+    public void insertIfAbsent(Long userId, String teacherLevel, long count) {
+        try {
+            mongoTemplate.insert(new ChatRoomQuota(userId, teacherLevel, count));
+        } catch (DuplicateKeyException e) {
+            // 다른 요청이 먼저 생성
+        }
+    }
+
+    @Override
+    public void decrement(Long userId, String teacherLevel) {
+        Query positive = Query.query(Criteria.where("_id").is(ChatRoomQuota.idOf(userId, teacherLevel))
+                .and("count").gt(0));
+        mongoTemplate.updateFirst(positive, new Update().inc("count", -1), ChatRoomQuota.class);
+    }
+
+}
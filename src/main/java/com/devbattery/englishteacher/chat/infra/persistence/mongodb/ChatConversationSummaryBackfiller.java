@@ -0,0 +1,60 @@
+package com.devbattery.englishteacher.chat.infra.persistence.mongodb;
+
+import com.devbattery.englishteacher.chat.domain.ChatConversation;
+import com.devbattery.englishteacher.chat.domain.ChatMessageBucket;
+import com.mongodb.client.result.UpdateResult;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비정규화 필드(messageCount, lastMessagePreview) 도입 이전 대화의 값을 서버 측 파이프라인 업데이트로 재계산
+ * (chat.storage.summary-backfill.enabled=true일 때 시작 시 1회 실행, 버킷 마이그레이션 이후에 실행)
+ */
+@Slf4j
+@Component
+@Order(1)
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.storage.summary-backfill.enabled", havingValue = "true")
+public class ChatConversationSummaryBackfiller implements ApplicationRunner {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Document lastText = new Document("$ifNull", List.of(
+                new Document("$arrayElemAt", List.of("$messages.text", -1)), ""));
+        Document preview = new Document("$cond", List.of(
+                new Document("$eq", List.of("$$lastText", "")),
+                ChatConversation.EMPTY_PREVIEW,
+                new Document("$cond", List.of(
+                        new Document("$gt", List.of(new Document("$strLenCP", "$$lastText"),
+                                ChatConversation.PREVIEW_LENGTH)),
+                        new Document("$concat", List.of(
+                                new Document("$substrCP", List.of("$$lastText", 0, ChatConversation.PREVIEW_LENGTH)),
+                                "...")),
+                        "$$lastText"))));
+        Document messageCount = new Document("$add", List.of(
+                new Document("$multiply", List.of(new Document("$ifNull", List.of("$bucketCount", 0)),
+                        ChatMessageBucket.CAPACITY)),
+                new Document("$size", new Document("$ifNull", List.of("$messages", List.of())))));
+
+        Document set = new Document("$set", new Document()
+                .append("messageCount", messageCount)
+                .append("lastMessagePreview", new Document("$let", new Document()
+                        .append("vars", new Document("lastText", lastText))
+                        .append("in", preview))));
+
+        UpdateResult result = mongoTemplate.getCollection(mongoTemplate.getCollectionName(ChatConversation.class))
+                .updateMany(new Document(), List.of(set));
+        log.info("채팅방 요약 필드 재계산 완료 (대상 대화: {}건)", result.getModifiedCount());
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.devbattery.englishteacher.chat.infra.persistence.mongodb;
+
+import com.devbattery.englishteacher.chat.domain.ChatConversation;
+import com.devbattery.englishteacher.chat.domain.ChatMessageBucket;
+import com.devbattery.englishteacher.chat.domain.repository.ChatConversationRepository;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+/**
+ * 버킷 도입 이전에 messages 배열에 전체 메시지를 담고 있던 대화를 버킷 구조로 변환
+ * (chat.storage.bucket-migration.enabled=true일 때 시작 시 1회 실행)
+ */
+@Slf4j
+@Component
+@Order(0)
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.storage.bucket-migration.enabled", havingValue = "true")
+public class ChatMessageBucketMigrator implements ApplicationRunner {
+
+    private final MongoTemplate mongoTemplate;
+    private final ChatConversationRepository chatConversationRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Query overflowing = Query.query(Criteria.where("messages." + ChatMessageBucket.CAPACITY).exists(true));
+        overflowing.fields().include("_id");
+
+        AtomicInteger migrated = new AtomicInteger();
+        try (var conversations = mongoTemplate.stream(overflowing, ChatConversation.class)) {
+            conversations.forEach(conversation -> {
+                chatConversationRepository.archiveOverflowMessages(conversation.getId());
+                migrated.incrementAndGet();
+            });
+        }
+        log.info("대화 메시지 버킷 마이그레이션 완료 (대상 대화: {}건)", migrated.get());
+    }
+
+}
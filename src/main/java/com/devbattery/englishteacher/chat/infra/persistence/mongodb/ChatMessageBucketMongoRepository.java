@@ -0,0 +1,16 @@
+package com.devbattery.englishteacher.chat.infra.persistence.mongodb;
+
+import com.devbattery.englishteacher.chat.domain.ChatMessageBucket;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface ChatMessageBucketMongoRepository extends MongoRepository<ChatMessageBucket, String> {
+
+    Optional<ChatMessageBucket> findByConversationIdAndSequence(String conversationId, int sequence);
+
+    List<ChatMessageBucket> findAllByConversationIdOrderBySequenceAsc(String conversationId);
+
+    void deleteAllByConversationId(String conversationId);
+
+}
@@ -0,0 +1,30 @@
+package com.devbattery.englishteacher.chat.infra.persistence.mongodb;
+
+import com.devbattery.englishteacher.chat.infra.persistence.mongodb.ChatMongoIndexManager.IndexStatus;
+import com.devbattery.englishteacher.chat.infra.persistence.mongodb.ChatMongoIndexManager.IndexUsage;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 컬렉션의 선언 인덱스 존재 여부와 인덱스별 사용 횟수를 조회하는 관리용 엔드포인트 (/actuator/chatindexes, ADMIN 권한만 조회)
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "chatindexes")
+public class ChatMongoIndexEndpoint {
+
+    private final ChatMongoIndexManager chatMongoIndexManager;
+
+    @ReadOperation
+    public ChatIndexReport report() {
+        return new ChatIndexReport(chatMongoIndexManager.verifyIndexes(), chatMongoIndexManager.fetchIndexUsages());
+    }
+
+    public record ChatIndexReport(List<IndexStatus> declared, List<IndexUsage> usages) {
+
+    }
+
+}
@@ -0,0 +1,156 @@
+package com.devbattery.englishteacher.chat.infra.persistence.mongodb;
+
+import com.devbattery.englishteacher.chat.domain.ChatConversation;
+import com.devbattery.englishteacher.chat.domain.ChatMessageBucket;
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.stereotype.Component;
+
+/**
+ * 엔티티에 선언된 인덱스를 시작 시 생성·검증하고 사용 현황($indexStats)을 조회 (auto-index-creation은 사용하지 않음)
+ * <p>
+ * strict 모드에서는 선언된 인덱스가 하나라도 없으면 애플리케이션 시작을 중단
+ */
+@Slf4j
+@Component
+public class ChatMongoIndexManager {
+
+    private static final List<Class<?>> MANAGED_ENTITIES = List.of(ChatConversation.class, ChatMessageBucket.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean createOnStartup;
+    private final boolean strict;
+
+    public ChatMongoIndexManager(MongoTemplate mongoTemplate,
+                                 @Value("${chat.storage.indexes.create-on-startup:true}") boolean createOnStartup,
+                                 @Value("${chat.storage.indexes.strict:false}") boolean strict) {
+        this.mongoTemplate = mongoTemplate;
+        this.createOnStartup = createOnStartup;
+        this.strict = strict;
+    }
+
+    @PostConstruct
+    public void ensureIndexes() {
+        if (createOnStartup) {
+            MANAGED_ENTITIES.forEach(this::createIndexesFor);
+        }
+
+        List<String> missingIndexes = verifyIndexes().stream()
+                .filter(status -> !status.present())
+                .map(status -> status.collection() + "." + status.name())
+                .toList();
+        if (missingIndexes.isEmpty()) {
+            log.info("선언된 Mongo 인덱스 확인 완료");
+            return;
+        }
+
+        if (strict) {
+            throw new IllegalStateException("선언된 Mongo 인덱스가 없음: " + missingIndexes);
+        }
+        log.warn("선언된 Mongo 인덱스가 없어 컬렉션 스캔이 발생할 수 있음: {}", missingIndexes);
+    }
+
+    /**
+     * 선언된 인덱스마다 같은 키 순서·방향과 unique 여부를 가진 인덱스가 실제로 있는지 확인
+     */
+    public List<IndexStatus> verifyIndexes() {
+        List<IndexStatus> statuses = new ArrayList<>();
+        for (Class<?> entityClass : MANAGED_ENTITIES) {
+            String collection = mongoTemplate.getCollectionName(entityClass);
+            List<IndexInfo> existingIndexes = mongoTemplate.indexOps(entityClass).getIndexInfo();
+
+            for (IndexDefinition definition : resolveIndexes(entityClass)) {
+                Document options = definition.getIndexOptions();
+                String name = options.getString("name");
+                boolean unique = options.getBoolean("unique", false);
+                List<String> keys = keyPatternOf(definition.getIndexKeys());
+
+                boolean present = existingIndexes.stream()
+                        .anyMatch(index -> keyPatternOf(index).equals(keys) && (!unique || index.isUnique()));
+                statuses.add(new IndexStatus(collection, name, String.join(", ", keys), present));
+            }
+        }
+        return statuses;
+    }
+
+    /**
+     * 관리 대상 컬렉션의 인덱스별 사용 횟수 ($indexStats, 서버 재시작 시 초기화됨)
+     */
+    public List<IndexUsage> fetchIndexUsages() {
+        List<IndexUsage> usages = new ArrayList<>();
+        for (Class<?> entityClass : MANAGED_ENTITIES) {
+            String collection = mongoTemplate.getCollectionName(entityClass);
+            mongoTemplate.getCollection(collection)
+                    .aggregate(List.of(new Document("$indexStats", new Document())))
+                    .forEach(stats -> {
+                        Document accesses = stats.get("accesses", Document.class);
+                        usages.add(new IndexUsage(collection, stats.getString("name"),
+                                String.join(", ", keyPatternOf(stats.get("key", Document.class))),
+                                accesses.get("ops", Number.class).longValue(), accesses.getDate("since")));
+                    });
+        }
+        return usages;
+    }
+
+    private void createIndexesFor(Class<?> entityClass) {
+        IndexOperations indexOperations = mongoTemplate.indexOps(entityClass);
+        resolveIndexes(entityClass).forEach(indexOperations::createIndex);
+        log.info("{} 인덱스 생성 요청 완료", entityClass.getSimpleName());
+    }
+
+    private List<IndexDefinition> resolveIndexes(Class<?> entityClass) {
+        MongoPersistentEntityIndexResolver resolver =
+                new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext());
+        List<IndexDefinition> definitions = new ArrayList<>();
+        resolver.resolveIndexFor(entityClass).forEach(definitions::add);
+        return definitions;
+    }
+
+    private static List<String> keyPatternOf(Document keys) {
+        return keys.entrySet().stream()
+                .map(entry -> entry.getKey() + ":" + normalizeDirection(entry.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> keyPatternOf(IndexInfo index) {
+        return index.getIndexFields().stream()
+                .map(ChatMongoIndexManager::keyOf)
+                .collect(Collectors.toList());
+    }
+
+    private static String keyOf(IndexField field) {
+        if (field.getDirection() == null) {
+            return field.getKey() + ":" + (field.isGeo() ? "geo" : "text");
+        }
+        return field.getKey() + ":" + (field.getDirection() == Sort.Direction.ASC ? 1 : -1);
+    }
+
+    private static String normalizeDirection(Object direction) {
+        if (direction instanceof Number number) {
+            return String.valueOf(number.intValue() < 0 ? -1 : 1);
+        }
+        return String.valueOf(direction);
+    }
+
+    public record IndexStatus(String collection, String name, String keys, boolean present) {
+
+    }
+
+    public record IndexUsage(String collection, String name, String keys, long ops, Date since) {
+
+    }
+
+}
@@ -1,8 +1,10 @@
 package com.devbattery.englishteacher.chat.presentation;
 
 import com.devbattery.englishteacher.auth.domain.UserPrincipal;
+import com.devbattery.englishteacher.chat.application.service.ChatIdempotencyService;
 import com.devbattery.englishteacher.chat.application.service.GeminiChatService;
 import com.devbattery.englishteacher.chat.domain.ChatMessage;
+import com.devbattery.englishteacher.chat.presentation.dto.ChatHistoryPageResponse;
 import com.devbattery.englishteacher.chat.presentation.dto.ChatRequest;
 import com.devbattery.englishteacher.chat.presentation.dto.ChatResponse;
 import com.devbattery.englishteacher.chat.presentation.dto.ChatRoomSummaryResponse;
@@ -19,9 +21,12 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Slf4j
 @RestController
@@ -29,6 +34,7 @@ import org.springframework.web.multipart.MultipartFile;
 public class ChatController {
 
     private final GeminiChatService geminiChatService;
+    private final ChatIdempotencyService chatIdempotencyService;
 
     @PostMapping("/api/chat/rooms")
     public ResponseEntity<ChatRoomSummaryResponse> createChatRoom(
@@ -42,13 +48,26 @@ public class ChatController {
     @PostMapping(value = "/api/chat/send", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ChatResponse> sendChatMessage(@RequestPart ChatRequest request,
                                                         @RequestPart(value = "image", required = false) @Nullable MultipartFile image,
+                                                        @RequestHeader(value = "Idempotency-Key", required = false) @Nullable String idempotencyKey,
                                                         @AuthenticationPrincipal UserPrincipal userPrincipal) {
         Long userId = userPrincipal.getId();
-        ChatResponse response = geminiChatService.fetchChatResponse(
-                userId, request.level(), request.conversationId(), request.message(), image);
+        String fingerprint = ChatIdempotencyService.fingerprintOf(request.conversationId(), request.message(), image);
+        ChatResponse response = chatIdempotencyService.execute(userId, idempotencyKey, fingerprint,
+                () -> geminiChatService.fetchChatResponse(
+                        userId, request.level(), request.conversationId(), request.message(), image));
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping(value = "/api/chat/send/stream", consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChatMessage(@RequestPart ChatRequest request,
+                                        @RequestPart(value = "image", required = false) @Nullable MultipartFile image,
+                                        @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        Long userId = userPrincipal.getId();
+        return geminiChatService.streamChatResponse(
+                userId, request.level(), request.conversationId(), request.message(), image);
+    }
+
     @GetMapping("/api/chat/rooms/{level}")
     public ResponseEntity<List<ChatRoomSummaryResponse>> getChatRoomList(
             @PathVariable String level,
@@ -66,6 +85,18 @@ public class ChatController {
         return ResponseEntity.ok(history);
     }
 
+    @GetMapping("/api/chat/history/{conversationId}/messages")
+    public ResponseEntity<ChatHistoryPageResponse> getChatHistoryPage(
+            @PathVariable String conversationId,
+            @RequestParam(value = "before", required = false) @Nullable Long before,
+            @RequestParam(value = "size", defaultValue = "30") int size,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        Long userId = userPrincipal.getId();
+        ChatHistoryPageResponse page = geminiChatService.getConversationHistoryPage(userId, conversationId, before,
+                size);
+        return ResponseEntity.ok(page);
+    }
+
     @DeleteMapping("/api/chat/room/{conversationId}")
     public ResponseEntity<Void> deleteChatRoom(@PathVariable String conversationId,
                                                @AuthenticationPrincipal UserPrincipal userPrincipal) {
@@ -0,0 +1,39 @@
+package com.devbattery.englishteacher.chat.presentation;
+
+import com.devbattery.englishteacher.auth.domain.UserPrincipal;
+import com.devbattery.englishteacher.chat.application.service.ChatIdempotencyService;
+import com.devbattery.englishteacher.common.ratelimit.RateLimitBypass;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이미 완료된 Idempotency-Key로 재전송되는 채팅 요청은 저장된 응답만 돌려주므로 토큰을 쓰지 않음
+ * (응답이 유실돼 재시도한 사용자가 429를 받지 않도록 함)
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatReplayRateLimitBypass implements RateLimitBypass {
+
+    private static final String CHAT_ROUTE = "chat";
+    private static final String CHAT_SEND_PATH = "/api/chat/send";
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private final ChatIdempotencyService chatIdempotencyService;
+
+    @Override
+    public boolean bypasses(String routeName, String path, HttpServletRequest request) {
+        if (!CHAT_ROUTE.equals(routeName) || !CHAT_SEND_PATH.equals(path)) {
+            return false;
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserPrincipal userPrincipal)) {
+            return false;
+        }
+        return chatIdempotencyService.isCompleted(userPrincipal.getId(), request.getHeader(IDEMPOTENCY_KEY_HEADER));
+    }
+
+}
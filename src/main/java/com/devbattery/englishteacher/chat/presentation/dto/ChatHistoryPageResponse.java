@@ -0,0 +1,12 @@
+package com.devbattery.englishteacher.chat.presentation.dto;
+
+import com.devbattery.englishteacher.chat.domain.ChatMessage;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * @param nextCursor 더 오래된 메시지를 요청할 때 before로 넘길 값 (더 없으면 null)
+ */
+public record ChatHistoryPageResponse(List<ChatMessage> messages, @Nullable Long nextCursor, boolean hasMore) {
+
+}
@@ -0,0 +1,54 @@
+package com.devbattery.englishteacher.common.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * Gemini 스트리밍 응답을 SSE로 중계하는 전용 스레드 풀 (Tomcat 요청 스레드를 점유하지 않도록 분리)
+     */
+    @Bean(name = "chatStreamExecutor")
+    public ThreadPoolTaskExecutor chatStreamExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(32);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("chat-stream-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 대화 롤링 요약 갱신용 스레드 풀 (대기열이 가득 차면 거절하고 다음 턴에 재시도)
+     */
+    @Bean(name = "chatSummaryExecutor")
+    public ThreadPoolTaskExecutor chatSummaryExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("chat-summary-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 레벨별 프롬프트 캐시 등록·교체용 스레드 풀 (요청 스레드가 cachedContents 응답을 기다리지 않도록 분리)
+     */
+    @Bean(name = "chatPromptCacheExecutor")
+    public ThreadPoolTaskExecutor chatPromptCacheExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(32);
+        executor.setThreadNamePrefix("chat-prompt-cache-");
+        executor.initialize();
+        return executor;
+    }
+
+}
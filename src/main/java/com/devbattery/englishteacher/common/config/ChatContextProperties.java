@@ -0,0 +1,50 @@
+package com.devbattery.englishteacher.common.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ConfigurationProperties(prefix = "chat.context")
+public class ChatContextProperties {
+
+    /**
+     * 레벨별로 Gemini에 원문 그대로 보낼 최근 대화의 토큰 예산 ("default" 키는 미등록 레벨용)
+     */
+    private Map<String, Integer> tokenBudgets = new HashMap<>();
+
+    /**
+     * 예산과 무관하게 항상 원문으로 보낼 최소 최근 메시지 수
+     */
+    private int minRecentMessages = 4;
+
+    /**
+     * 요약 갱신 1회에 반영할 최대 메시지 수
+     */
+    private int summaryBatchSize = 50;
+
+    /**
+     * 메시지별 직렬화 결과를 보관할 최대 대화 수
+     */
+    private long fragmentCacheMaxConversations = 10_000;
+
+    /**
+     * 이 시간 동안 전송이 없는 대화의 직렬화 결과는 제거
+     */
+    private Duration fragmentCacheExpireAfterAccess = Duration.ofMinutes(30);
+
+    public int getTokenBudget(String level) {
+        return tokenBudgets.getOrDefault(level, tokenBudgets.getOrDefault("default", 3000));
+    }
+
+}
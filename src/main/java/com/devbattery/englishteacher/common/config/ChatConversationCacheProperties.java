@@ -0,0 +1,46 @@
+package com.devbattery.englishteacher.common.config;
+
+import java.time.Duration;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ConfigurationProperties(prefix = "chat.conversation-cache")
+public class ChatConversationCacheProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * 인스턴스별로 보관할 최대 대화 수
+     */
+    private long maxSize = 10_000;
+
+    /**
+     * 마지막 접근 후 로컬 캐시에 남겨둘 시간
+     */
+    private Duration localTtl = Duration.ofMinutes(10);
+
+    /**
+     * 여러 인스턴스가 Redis에 최신 대화를 공유 (로컬 항목은 Redis 버전과 같을 때만 사용)
+     */
+    private boolean redisEnabled = false;
+
+    /**
+     * Redis 없이 로컬 캐시만 사용 (인스턴스가 하나일 때만 켬, 여러 인스턴스면 다른 인스턴스가 추가한 메시지가 local-ttl 동안 보이지 않음)
+     */
+    private boolean localOnly = false;
+
+    /**
+     * 마지막 접근 후 Redis에 남겨둘 시간
+     */
+    private Duration redisTtl = Duration.ofMinutes(30);
+
+}
@@ -0,0 +1,28 @@
+package com.devbattery.englishteacher.common.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ConfigurationProperties(prefix = "chat.image")
+public class ChatImageProperties {
+
+    /**
+     * Gemini로 보낼 이미지의 긴 변 최대 픽셀 수
+     */
+    private int maxDimension = 1024;
+
+    /**
+     * JPEG 재인코딩 품질 (0.0 ~ 1.0)
+     */
+    private float jpegQuality = 0.85f;
+
+}
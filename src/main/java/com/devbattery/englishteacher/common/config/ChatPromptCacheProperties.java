@@ -0,0 +1,41 @@
+package com.devbattery.englishteacher.common.config;
+
+import java.time.Duration;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ConfigurationProperties(prefix = "chat.prompt-cache")
+public class ChatPromptCacheProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Gemini cachedContents 보관 시간
+     */
+    private Duration ttl = Duration.ofHours(1);
+
+    /**
+     * 만료까지 이 시간보다 적게 남으면 새 캐시로 교체
+     */
+    private Duration refreshBefore = Duration.ofMinutes(10);
+
+    /**
+     * 만료 임박 캐시를 확인하는 주기
+     */
+    private Duration refreshCheckInterval = Duration.ofMinutes(1);
+
+    /**
+     * 등록에 실패한 레벨(최소 토큰 수 미달 등)은 이 시간 동안 캐시 없이 프롬프트를 그대로 보냄
+     */
+    private Duration retryAfterFailure = Duration.ofMinutes(30);
+
+}
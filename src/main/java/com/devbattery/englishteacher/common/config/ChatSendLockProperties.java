@@ -0,0 +1,52 @@
+package com.devbattery.englishteacher.common.config;
+
+import java.time.Duration;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ConfigurationProperties(prefix = "chat.send-lock")
+public class ChatSendLockProperties {
+
+    private boolean enabled = true;
+
+    private Mode mode = Mode.LOCAL;
+
+    /**
+     * LOCAL 모드에서 대화 id를 나눠 담을 락 수 (2의 거듭제곱으로 올림)
+     */
+    private int stripes = 1024;
+
+    /**
+     * 같은 대화의 앞선 턴이 끝나기를 기다릴 최대 시간
+     */
+    private Duration waitTimeout = Duration.ofSeconds(60);
+
+    /**
+     * REDISSON 모드에서 인스턴스가 죽어도 락이 풀리도록 하는 보유 시간 (스트리밍 응답 제한 시간보다 길게)
+     */
+    private Duration leaseTime = Duration.ofMinutes(3);
+
+    public enum Mode {
+
+        /**
+         * 인스턴스 안에서만 순서 보장 (단일 인스턴스 또는 대화별 sticky 라우팅)
+         */
+        LOCAL,
+
+        /**
+         * Redisson 공정 락으로 여러 인스턴스 사이에서 순서 보장
+         */
+        REDISSON
+
+    }
+
+}
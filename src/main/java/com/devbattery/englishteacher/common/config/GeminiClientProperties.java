@@ -0,0 +1,102 @@
+package com.devbattery.englishteacher.common.config;
+
+import com.devbattery.englishteacher.common.gemini.GeminiUseCase;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ConfigurationProperties(prefix = "gemini.client")
+public class GeminiClientProperties {
+
+    /**
+     * 용도별 타임아웃 (미등록 용도는 defaults 사용)
+     */
+    private Map<GeminiUseCase, Timeouts> useCases = new EnumMap<>(GeminiUseCase.class);
+
+    private Timeouts defaults = new Timeouts();
+
+    /**
+     * 용도별 동시 호출 제한 (미등록 용도는 bulkheadDefaults 사용)
+     */
+    private Map<GeminiUseCase, BulkheadLimits> bulkheads = new EnumMap<>(GeminiUseCase.class);
+
+    private BulkheadLimits bulkheadDefaults = new BulkheadLimits();
+
+    /**
+     * API 키별 동시 호출 제한 (키 이름 chat/article/translation, 같은 키를 쓰는 용도들의 합계를 제한)
+     */
+    private Map<String, BulkheadLimits> apiKeyBulkheads = new HashMap<>();
+
+    private BulkheadLimits apiKeyBulkheadDefaults = new BulkheadLimits();
+
+    public Timeouts getTimeouts(GeminiUseCase useCase) {
+        return useCases.getOrDefault(useCase, defaults);
+    }
+
+    public BulkheadLimits getBulkheadLimits(GeminiUseCase useCase) {
+        return bulkheads.getOrDefault(useCase, bulkheadDefaults);
+    }
+
+    public BulkheadLimits getApiKeyBulkheadLimits(String apiKeyName) {
+        return apiKeyBulkheads.getOrDefault(apiKeyName, apiKeyBulkheadDefaults);
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Timeouts {
+
+        /**
+         * TCP/TLS 연결 수립 제한 시간
+         */
+        private Duration connectTimeout = Duration.ofSeconds(3);
+
+        /**
+         * 요청 전송 후 응답 헤더를 받기까지의 제한 시간
+         */
+        private Duration readTimeout = Duration.ofSeconds(30);
+
+        /**
+         * 응답 본문(스트리밍 포함)을 모두 받기까지의 전체 제한 시간
+         */
+        private Duration deadline = Duration.ofSeconds(60);
+
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BulkheadLimits {
+
+        /**
+         * 동시에 Gemini로 보낼 수 있는 최대 요청 수
+         */
+        private int maxConcurrentCalls = 10;
+
+        /**
+         * 허용을 기다릴 수 있는 최대 요청 수 (초과 시 즉시 거절)
+         */
+        private int maxWaitingCalls = 20;
+
+        /**
+         * 허용을 기다리는 최대 시간
+         */
+        private Duration maxWait = Duration.ofSeconds(2);
+
+    }
+
+}
@@ -16,8 +16,17 @@ import org.springframework.stereotype.Component;
 @ConfigurationProperties(prefix = "gemini.prompts")
 public class GeminiPromptProperties {
 
+    public static final String DEFAULT_CHAT_PROMPT_KEY = "default";
+
     private String learning;
     private Map<String, String> chat;
     private Map<String, String> levelDescriptions;
 
+    /**
+     * 레벨이 사용할 채팅 프롬프트 키 (설정되지 않은 레벨은 기본 프롬프트)
+     */
+    public String chatPromptKeyOf(String level) {
+        return chat != null && chat.containsKey(level) ? level : DEFAULT_CHAT_PROMPT_KEY;
+    }
+
 }
@@ -0,0 +1,64 @@
+package com.devbattery.englishteacher.common.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * 엔드포인트 분류별 토큰 버킷 (키가 Redis 버킷 키의 분류명으로 사용됨)
+     */
+    private Map<String, Route> routes = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Route {
+
+        /**
+         * 제한할 HTTP 메서드 (비어 있으면 모든 메서드)
+         */
+        private String method;
+
+        /**
+         * 제한할 경로 패턴 (Ant 스타일)
+         */
+        private List<String> patterns = new ArrayList<>();
+
+        /**
+         * 버킷 크기 (연속으로 허용할 최대 요청 수)
+         */
+        private int capacity = 10;
+
+        /**
+         * refillPeriod마다 다시 채워지는 토큰 수 (지속적으로 허용할 속도, 연속으로 채워지며 capacity까지만 쌓임)
+         */
+        private int refillTokens = 10;
+
+        private Duration refillPeriod = Duration.ofMinutes(1);
+
+        public double refillTokensPerMillis() {
+            return (double) refillTokens / refillPeriod.toMillis();
+        }
+
+    }
+
+}
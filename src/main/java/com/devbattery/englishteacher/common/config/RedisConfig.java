@@ -1,5 +1,6 @@
 package com.devbattery.englishteacher.common.config;
 
+import io.lettuce.core.resource.ClientResources;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.Redisson;
@@ -10,6 +11,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
@@ -23,6 +25,7 @@ public class RedisConfig {
     private static final String REDISSON_HOST_PREFIX = "redis://";
 
     private final RedisProperties redisProperties;
+    private final ClientResources clientResources;
 
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
@@ -30,7 +33,11 @@ public class RedisConfig {
         config.setHostName(redisProperties.getHost());
         config.setPort(redisProperties.getPort());
         config.setPassword(redisProperties.getPassword());
-        LettuceConnectionFactory lettuceConnectionFactory = new LettuceConnectionFactory(config);
+        // Boot가 만든 ClientResources를 써야 Lettuce 명령 지연 메트릭(lettuce.command.*)이 기록됨
+        LettuceClientConfiguration clientConfig = LettuceClientConfiguration.builder()
+                .clientResources(clientResources)
+                .build();
+        LettuceConnectionFactory lettuceConnectionFactory = new LettuceConnectionFactory(config, clientConfig);
         log.info("LettuceConnectionFactory 생성 완료.");
         return lettuceConnectionFactory;
     }
@@ -1,12 +1,16 @@
 package com.devbattery.englishteacher.common.config;
 
 import com.devbattery.englishteacher.auth.application.service.CustomOAuth2UserService;
+import com.devbattery.englishteacher.chat.infra.persistence.mongodb.ChatMongoIndexEndpoint;
 import com.devbattery.englishteacher.common.filter.JwtAuthFilter;
 import com.devbattery.englishteacher.common.handler.OAuth2LoginSuccessHandler;
+import com.devbattery.englishteacher.user.domain.Role;
+import jakarta.servlet.DispatcherType;
 import java.util.Arrays;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -15,7 +19,6 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer.FrameOptionsConfig;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -41,6 +44,12 @@ public class SecurityConfig {
                 .formLogin(AbstractHttpConfigurer::disable)
                 .headers(x -> x.frameOptions(FrameOptionsConfig::disable))
                 .authorizeHttpRequests((authorize) -> authorize
+                        // SSE 응답 완료 시의 async dispatch는 이미 인증된 요청이므로 재검사하지 않음
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        // 인덱스 검증 결과와 $indexStats에는 컬렉션 구조와 사용 현황이 드러나므로 관리자만 조회
+                        .requestMatchers(EndpointRequest.to(ChatMongoIndexEndpoint.class)).hasRole(Role.ADMIN.name())
+                        // 헬스 체크와 Prometheus 수집은 내부망에만 바인딩된 관리 포트로 들어온 요청만 허용
+                        .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
                         .requestMatchers(AuthEndpoints.PERMIT_ALL_PATTERNS).permitAll()
                         .anyRequest().authenticated()
                 ).oauth2Login(
@@ -67,9 +76,4 @@ public class SecurityConfig {
         return source;
     }
 
-    @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
-    }
-
 }
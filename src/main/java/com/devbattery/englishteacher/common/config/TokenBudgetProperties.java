@@ -0,0 +1,52 @@
+package com.devbattery.englishteacher.common.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ConfigurationProperties(prefix = "gemini.token-budget")
+public class TokenBudgetProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * 사용자별 하루 토큰 한도 (넘으면 채팅과 단어 번역 거절)
+     */
+    private long dailyLimit = 300_000;
+
+    /**
+     * 특정 사용자의 하루 토큰 한도 (userId → 한도)
+     */
+    private Map<Long, Long> userLimits = new HashMap<>();
+
+    /**
+     * 한도 대비 이 비율을 넘으면 대화 문맥을 줄이고 이미지 대화를 거절
+     */
+    private double degradeRatio = 0.8;
+
+    /**
+     * 제한 상태에서 레벨별 대화 문맥 토큰 예산에 곱할 비율
+     */
+    private double degradedContextScale = 0.5;
+
+    /**
+     * Redis 카운터를 MySQL에 반영하는 주기
+     */
+    private Duration flushInterval = Duration.ofMinutes(1);
+
+    public long getDailyLimit(Long userId) {
+        return userLimits.getOrDefault(userId, dailyLimit);
+    }
+
+}
@@ -1,10 +1,13 @@
 package com.devbattery.englishteacher.common.config;
 
+import com.devbattery.englishteacher.common.ratelimit.RateLimitInterceptor;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -14,6 +17,8 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class WebConfig implements WebMvcConfigurer {
 
     private final FileStorageProperties fileStorageProperties;
+    private final RateLimitProperties rateLimitProperties;
+    private final RateLimitInterceptor rateLimitInterceptor;
 
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
@@ -25,4 +30,15 @@ public class WebConfig implements WebMvcConfigurer {
                 .addResourceLocations(resourceLocation);
     }
 
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        List<String> patterns = rateLimitProperties.getRoutes().values().stream()
+                .flatMap(route -> route.getPatterns().stream())
+                .distinct()
+                .toList();
+        if (!patterns.isEmpty()) {
+            registry.addInterceptor(rateLimitInterceptor).addPathPatterns(patterns);
+        }
+    }
+
 }
@@ -0,0 +1,9 @@
+package com.devbattery.englishteacher.common.exception;
+
+public class ChatConversationConflictException extends CustomException {
+
+    public ChatConversationConflictException() {
+        super(ErrorCode.CHAT_CONVERSATION_CONFLICT);
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.devbattery.englishteacher.common.exception;
+
+public class ChatSendInProgressException extends CustomException {
+
+    public ChatSendInProgressException() {
+        super(ErrorCode.CHAT_SEND_IN_PROGRESS);
+    }
+
+}
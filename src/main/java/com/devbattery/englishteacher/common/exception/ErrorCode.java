@@ -16,9 +16,16 @@ public enum ErrorCode {
     CHAT_ROOM_NOT_FOUND(HttpStatus.NOT_FOUND, "채팅방을 찾을 수 없습니다."),
     CHAT_MESSAGE_NOT_FOUND(HttpStatus.NOT_FOUND, "채팅 메시지를 찾을 수 없습니다."),
     CHAT_ROOM_OVER(HttpStatus.BAD_REQUEST, "한 레벨당 채팅방은 10개까지만 생성됩니다."),
+    IDEMPOTENCY_KEY_IN_PROGRESS(HttpStatus.CONFLICT, "같은 Idempotency-Key의 요청을 아직 처리 중입니다."),
+    IDEMPOTENCY_KEY_MISMATCH(HttpStatus.UNPROCESSABLE_ENTITY, "Idempotency-Key가 다른 요청에 이미 사용되었습니다."),
+    CHAT_SEND_IN_PROGRESS(HttpStatus.CONFLICT, "이전 메시지의 답변을 아직 생성하고 있습니다. 잠시 후 다시 시도해 주세요."),
+    CHAT_CONVERSATION_CONFLICT(HttpStatus.CONFLICT, "같은 채팅방에 동시에 보낸 메시지가 많아 저장하지 못했습니다. 다시 시도해 주세요."),
 
     CONTENT_GENERATION_FAILED(HttpStatus.SERVICE_UNAVAILABLE, "콘텐츠 생성 대기 중 오류가 발생했습니다."),
     GEMINI_API_ERROR(HttpStatus.SERVICE_UNAVAILABLE, "Gemini 호출에 실패했습니다."),
+    RATE_LIMIT_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요."),
+    TOKEN_BUDGET_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "오늘 사용할 수 있는 AI 사용량을 모두 사용했습니다."),
+    TOKEN_BUDGET_IMAGE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "오늘은 사용량이 많아 이미지 대화를 더 이용할 수 없습니다."),
 
     FILE_STORAGE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "파일 처리에 실패했습니다"),
     JSON_SERIALIZED_ERROR(HttpStatus.BAD_REQUEST, "JSON 직렬화/역직렬화 오류"),
@@ -0,0 +1,9 @@
+package com.devbattery.englishteacher.common.exception;
+
+public class IdempotencyKeyInProgressException extends CustomException {
+
+    public IdempotencyKeyInProgressException() {
+        super(ErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS);
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.devbattery.englishteacher.common.exception;
+
+public class IdempotencyKeyMismatchException extends CustomException {
+
+    public IdempotencyKeyMismatchException() {
+        super(ErrorCode.IDEMPOTENCY_KEY_MISMATCH);
+    }
+
+}
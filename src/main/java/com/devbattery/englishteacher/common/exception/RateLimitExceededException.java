@@ -0,0 +1,19 @@
+package com.devbattery.englishteacher.common.exception;
+
+import lombok.Getter;
+
+@Getter
+public class RateLimitExceededException extends CustomException {
+
+    private final long retryAfterMillis;
+
+    public RateLimitExceededException(long retryAfterMillis) {
+        super(ErrorCode.RATE_LIMIT_EXCEEDED);
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    public long getRetryAfterSeconds() {
+        return Math.max(1, (retryAfterMillis + 999) / 1000);
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.devbattery.englishteacher.common.exception;
+
+public class TokenBudgetExceededException extends CustomException {
+
+    public TokenBudgetExceededException() {
+        super(ErrorCode.TOKEN_BUDGET_EXCEEDED);
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.devbattery.englishteacher.common.exception;
+
+public class TokenBudgetImageLimitedException extends CustomException {
+
+    public TokenBudgetImageLimitedException() {
+        super(ErrorCode.TOKEN_BUDGET_IMAGE_LIMITED);
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.devbattery.englishteacher.common.gemini;
+
+import com.devbattery.englishteacher.common.config.GeminiClientProperties.BulkheadLimits;
+import com.devbattery.englishteacher.common.exception.GeminiApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 용도별 또는 API 키별 동시 호출 수를 제한하고, 대기열이 가득 차거나 대기 시간을 넘기면 즉시 GEMINI_API_ERROR로 실패
+ */
+@Slf4j
+class GeminiBulkhead {
+
+    private final Tag scope;
+    private final BulkheadLimits limits;
+    private final Semaphore permits;
+    private final AtomicInteger waitingCalls = new AtomicInteger();
+    private final Counter rejectedCalls;
+
+    GeminiBulkhead(GeminiUseCase useCase, BulkheadLimits limits, MeterRegistry meterRegistry) {
+        this(Tag.of("use_case", useCase.getTagValue()), limits, meterRegistry);
+    }
+
+    /**
+     * scope: 제한 단위를 나타내는 메트릭 태그 (use_case 또는 api_key)
+     */
+    GeminiBulkhead(Tag scope, BulkheadLimits limits, MeterRegistry meterRegistry) {
+        this.scope = scope;
+        this.limits = limits;
+        this.permits = new Semaphore(limits.getMaxConcurrentCalls(), true);
+
+        Gauge.builder("gemini.bulkhead.available", permits, Semaphore::availablePermits)
+                .description("남은 동시 호출 허용 수")
+                .tags(List.of(scope))
+                .register(meterRegistry);
+        Gauge.builder("gemini.bulkhead.queue.depth", waitingCalls, AtomicInteger::get)
+                .description("허용 대기 중인 호출 수")
+                .tags(List.of(scope))
+                .register(meterRegistry);
+        this.rejectedCalls = Counter.builder("gemini.bulkhead.rejected")
+                .description("동시 호출 제한으로 거절된 호출 수")
+                .tags(List.of(scope))
+                .register(meterRegistry);
+    }
+
+    void acquire() {
+        if (permits.tryAcquire()) {
+            return;
+        }
+
+        if (waitingCalls.incrementAndGet() > limits.getMaxWaitingCalls()) {
+            waitingCalls.decrementAndGet();
+            reject("대기열 초과");
+        }
+
+        try {
+            if (!permits.tryAcquire(limits.getMaxWait().toMillis(), TimeUnit.MILLISECONDS)) {
+                reject("대기 시간 초과");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GeminiApiException();
+        } finally {
+            waitingCalls.decrementAndGet();
+        }
+    }
+
+    void release() {
+        permits.release();
+    }
+
+    private void reject(String reason) {
+        rejectedCalls.increment();
+        log.warn("Gemini 호출 거절 - {} ({}: {}, 동시 호출 제한: {})", reason, scope.getKey(), scope.getValue(),
+                limits.getMaxConcurrentCalls());
+        throw new GeminiApiException();
+    }
+
+}
@@ -0,0 +1,10 @@
+package com.devbattery.englishteacher.common.gemini;
+
+import java.time.Instant;
+
+/**
+ * Gemini cachedContents에 등록된 캐시 (name을 generateContent의 cachedContent로 참조)
+ */
+public record GeminiCachedContent(String name, Instant expireTime) {
+
+}
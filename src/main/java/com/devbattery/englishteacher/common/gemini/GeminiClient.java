@@ -0,0 +1,414 @@
+package com.devbattery.englishteacher.common.gemini;
+
+import com.devbattery.englishteacher.common.config.GeminiClientProperties;
+import com.devbattery.englishteacher.common.config.GeminiClientProperties.Timeouts;
+import com.devbattery.englishteacher.common.exception.GeminiApiException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodySubscribers;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 용도별로 분리된 커넥션 풀(HTTP/2, keep-alive)과 타임아웃으로 Gemini API를 호출하는 공용 클라이언트
+ */
+@Slf4j
+@Component
+public class GeminiClient {
+
+    private static final String STREAM_PATH_FROM = ":generateContent?";
+    private static final String STREAM_PATH_TO = ":streamGenerateContent?alt=sse&";
+    private static final int ERROR_BODY_LOG_LENGTH = 500;
+    private static final String FINISH_REASON_STOP = "STOP";
+    private static final String SSE_DATA_PREFIX = "data:";
+    private static final Pattern MODEL_PATTERN = Pattern.compile("/models/([^/:?]+):");
+    private static final String UNKNOWN_MODEL = "unknown";
+    private static final String MODELS_PATH = "/models/";
+    private static final String CACHED_CONTENTS_PATH = "/cachedContents";
+
+    private final GeminiClientProperties clientProperties;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+    private final GeminiResponseParser responseParser;
+    private final Map<GeminiUseCase, HttpClient> httpClients = new EnumMap<>(GeminiUseCase.class);
+    private final Map<GeminiUseCase, ExecutorService> executors = new EnumMap<>(GeminiUseCase.class);
+    private final Map<GeminiUseCase, URI> generateUris = new EnumMap<>(GeminiUseCase.class);
+    private final Map<GeminiUseCase, String> models = new EnumMap<>(GeminiUseCase.class);
+    private final Map<GeminiUseCase, URI> cachedContentsUris = new EnumMap<>(GeminiUseCase.class);
+    private final Map<GeminiUseCase, AtomicInteger> inFlightRequests = new EnumMap<>(GeminiUseCase.class);
+    private final Map<GeminiUseCase, GeminiBulkhead> bulkheads = new EnumMap<>(GeminiUseCase.class);
+    private final Map<String, GeminiBulkhead> apiKeyBulkheads = new HashMap<>();
+
+    public GeminiClient(GeminiClientProperties clientProperties, MeterRegistry meterRegistry,
+                        ObjectMapper objectMapper, GeminiResponseParser responseParser, Environment environment,
+                        @Value("${gemini.api.template}") String apiTemplate) {
+        this.clientProperties = clientProperties;
+        this.meterRegistry = meterRegistry;
+        this.objectMapper = objectMapper;
+        this.responseParser = responseParser;
+
+        for (GeminiUseCase useCase : GeminiUseCase.values()) {
+            String apiKey = environment.getRequiredProperty(useCase.getApiKeyProperty());
+            String apiUrl = String.format(apiTemplate, apiKey);
+            generateUris.put(useCase,
+                    URI.create(useCase == GeminiUseCase.CHAT_STREAM ? toStreamUrl(apiUrl) : apiUrl));
+            models.put(useCase, modelOf(apiUrl));
+            cachedContentsUris.put(useCase, URI.create(toCachedContentsUrl(apiUrl)));
+
+            ExecutorService executor = ExecutorServiceMetrics.monitor(meterRegistry,
+                    Executors.newCachedThreadPool(
+                            new CustomizableThreadFactory("gemini-" + useCase.getTagValue() + "-")),
+                    "gemini.client", Tags.of("use_case", useCase.getTagValue()));
+            executors.put(useCase, executor);
+            httpClients.put(useCase, HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_2)
+                    .connectTimeout(clientProperties.getTimeouts(useCase).getConnectTimeout())
+                    .executor(executor)
+                    .build());
+
+            AtomicInteger inFlight = new AtomicInteger();
+            inFlightRequests.put(useCase, inFlight);
+            Gauge.builder("gemini.client.requests.active", inFlight, AtomicInteger::get)
+                    .description("처리 중인 Gemini 요청 수")
+                    .tag("use_case", useCase.getTagValue())
+                    .register(meterRegistry);
+
+            bulkheads.put(useCase,
+                    new GeminiBulkhead(useCase, clientProperties.getBulkheadLimits(useCase), meterRegistry));
+            apiKeyBulkheads.computeIfAbsent(useCase.getApiKeyName(), apiKeyName -> new GeminiBulkhead(
+                    Tag.of("api_key", apiKeyName), clientProperties.getApiKeyBulkheadLimits(apiKeyName),
+                    meterRegistry));
+        }
+    }
+
+    /**
+     * generateContent를 호출하고 응답에서 text, finishReason, usageMetadata를 추출해 반환
+     * (2xx 외 응답, 타임아웃, I/O 오류, 동시 호출 제한 초과는 GeminiApiException)
+     */
+    public GeminiResponse generateContent(GeminiUseCase useCase, String requestBody) {
+        BodyPublisher bodyPublisher = BodyPublishers.ofString(requestBody, StandardCharsets.UTF_8);
+        return parseResponse(useCase,
+                exchange(useCase, generateUris.get(useCase), bodyPublisher, ofStringBody(), null).body());
+    }
+
+    /**
+     * 요청 본문을 requestWriter로 HTTP 요청 스트림에 바로 쓰면서 generateContent를 호출 (큰 요청용)
+     */
+    public GeminiResponse generateContent(GeminiUseCase useCase, GeminiRequestWriter requestWriter) {
+        try (StreamingRequestBody requestBody = streamingBody(useCase, requestWriter)) {
+            return parseResponse(useCase, exchange(useCase, generateUris.get(useCase), requestBody.publisher(),
+                    ofStringBody(), null).body());
+        }
+    }
+
+    /**
+     * streamGenerateContent(alt=sse)를 호출하고 응답 본문을 한 줄씩 lineHandler에 전달 (HTTP 클라이언트 스레드에서 호출됨)
+     * 스트림이 끝나면 마지막 조각의 usageMetadata를 반환 (없으면 null)
+     */
+    @Nullable
+    public GeminiUsage streamGenerateContent(GeminiRequestWriter requestWriter, Consumer<String> lineHandler) {
+        GeminiUseCase useCase = GeminiUseCase.CHAT_STREAM;
+        // 스트리밍 응답은 마지막 data 줄의 usageMetadata가 누적 토큰 수
+        AtomicReference<String> lastDataLine = new AtomicReference<>();
+        LineSubscriber lineSubscriber = new LineSubscriber(line -> {
+            if (line.startsWith(SSE_DATA_PREFIX)) {
+                lastDataLine.set(line);
+            }
+            lineHandler.accept(line);
+        });
+        BodyHandler<String> bodyHandler = responseInfo -> isSuccessful(responseInfo.statusCode())
+                ? BodySubscribers.fromLineSubscriber(lineSubscriber, subscriber -> null, StandardCharsets.UTF_8, null)
+                : BodySubscribers.ofString(StandardCharsets.UTF_8);
+
+        try (StreamingRequestBody requestBody = streamingBody(useCase, requestWriter)) {
+            exchange(useCase, generateUris.get(useCase), requestBody.publisher(), bodyHandler, lineSubscriber);
+        }
+
+        String lastLine = lastDataLine.get();
+        if (lastLine == null) {
+            return null;
+        }
+        GeminiUsage usage = responseParser.parse(lastLine.substring(SSE_DATA_PREFIX.length())).usage();
+        recordUsage(useCase, usage);
+        return usage;
+    }
+
+    /**
+     * 용도별 모델로 contentsWriter가 작성한 contents(배열 원소들)를 cachedContents에 ttl 동안 등록
+     * (모델별 최소 토큰 수 미달 등으로 등록이 거절되면 GeminiApiException)
+     */
+    public GeminiCachedContent createCachedContent(GeminiUseCase useCase, GeminiRequestWriter contentsWriter,
+                                                   Duration ttl) {
+        StringWriter body = new StringWriter();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(body)) {
+            generator.writeStartObject();
+            generator.writeStringField("model", MODELS_PATH.substring(1) + models.get(useCase));
+            generator.writeStringField("ttl", ttl.toSeconds() + "s");
+            generator.writeArrayFieldStart("contents");
+            contentsWriter.writeTo(generator);
+            generator.writeEndArray();
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new GeminiApiException();
+        }
+
+        HttpResponse<String> response = exchange(useCase, cachedContentsUris.get(useCase),
+                BodyPublishers.ofString(body.toString(), StandardCharsets.UTF_8), ofStringBody(), null);
+        try {
+            JsonNode cachedContent = objectMapper.readTree(response.body());
+            String name = cachedContent.path("name").asText(null);
+            String expireTime = cachedContent.path("expireTime").asText(null);
+            if (name == null || expireTime == null) {
+                log.error("cachedContents 응답에 name/expireTime이 없음 (useCase: {})", useCase);
+                throw new GeminiApiException();
+            }
+            return new GeminiCachedContent(name, Instant.parse(expireTime));
+        } catch (IOException | DateTimeParseException e) {
+            log.error("cachedContents 응답 파싱 실패 (useCase: {})", useCase, e);
+            throw new GeminiApiException();
+        }
+    }
+
+    private HttpResponse<String> exchange(GeminiUseCase useCase, URI uri, BodyPublisher bodyPublisher,
+                                          BodyHandler<String> bodyHandler, LineSubscriber lineSubscriber) {
+        Timeouts timeouts = clientProperties.getTimeouts(useCase);
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(timeouts.getReadTimeout())
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .POST(bodyPublisher)
+                .build();
+
+        // 용도별 허용을 먼저 받은 뒤, 같은 API 키를 쓰는 용도들이 공유하는 키별 허용을 받음
+        GeminiBulkhead bulkhead = bulkheads.get(useCase);
+        GeminiBulkhead apiKeyBulkhead = apiKeyBulkheads.get(useCase.getApiKeyName());
+        bulkhead.acquire();
+        try {
+            apiKeyBulkhead.acquire();
+        } catch (GeminiApiException e) {
+            bulkhead.release();
+            throw e;
+        }
+
+        AtomicInteger inFlight = inFlightRequests.get(useCase);
+        inFlight.incrementAndGet();
+        long startNanos = System.nanoTime();
+        String outcome = "error";
+        String status = "none";
+        CompletableFuture<HttpResponse<String>> future = httpClients.get(useCase).sendAsync(request, bodyHandler);
+
+        try {
+            HttpResponse<String> response = future.get(timeouts.getDeadline().toMillis(), TimeUnit.MILLISECONDS);
+            status = String.valueOf(response.statusCode());
+            if (!isSuccessful(response.statusCode())) {
+                outcome = "http_" + response.statusCode();
+                log.error("Gemini API 오류 응답 (useCase: {}, status: {}, body: {})", useCase, response.statusCode(),
+                        abbreviate(response.body()));
+                throw new GeminiApiException();
+            }
+            outcome = "success";
+            return response;
+        } catch (TimeoutException e) {
+            outcome = "timeout";
+            cancel(future, lineSubscriber);
+            log.error("Gemini API 전체 제한 시간 초과 (useCase: {}, deadline: {})", useCase, timeouts.getDeadline());
+            throw new GeminiApiException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof HttpTimeoutException) {
+                outcome = "timeout";
+            }
+            log.error("Gemini API 호출 실패 (useCase: {})", useCase, e.getCause());
+            throw new GeminiApiException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel(future, lineSubscriber);
+            throw new GeminiApiException();
+        } finally {
+            inFlight.decrementAndGet();
+            apiKeyBulkhead.release();
+            bulkhead.release();
+            Timer.builder("gemini.client.requests")
+                    .description("Gemini 요청 처리 시간")
+                    .tag("use_case", useCase.getTagValue())
+                    .tag("model", models.get(useCase))
+                    .tag("status", status)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executors.values().forEach(ExecutorService::shutdown);
+    }
+
+    private GeminiResponse parseResponse(GeminiUseCase useCase, String body) {
+        GeminiResponse response = responseParser.parse(body);
+        if (response.finishReason() != null && !FINISH_REASON_STOP.equals(response.finishReason())) {
+            log.warn("Gemini 응답이 정상 종료되지 않음 (useCase: {}, finishReason: {})", useCase,
+                    response.finishReason());
+        }
+        recordUsage(useCase, response.usage());
+        return response;
+    }
+
+    private void recordUsage(GeminiUseCase useCase, @Nullable GeminiUsage usage) {
+        if (usage == null) {
+            return;
+        }
+        recordTokens(useCase, "prompt", usage.promptTokenCount());
+        recordTokens(useCase, "output", usage.candidatesTokenCount());
+        recordTokens(useCase, "cached", usage.cachedContentTokenCount());
+    }
+
+    private void recordTokens(GeminiUseCase useCase, String type, int tokenCount) {
+        DistributionSummary.builder("gemini.client.tokens")
+                .description("Gemini 요청당 토큰 수 (usageMetadata)")
+                .baseUnit("tokens")
+                .tag("use_case", useCase.getTagValue())
+                .tag("model", models.get(useCase))
+                .tag("type", type)
+                .register(meterRegistry)
+                .record(tokenCount);
+    }
+
+    private StreamingRequestBody streamingBody(GeminiUseCase useCase, GeminiRequestWriter requestWriter) {
+        return new StreamingRequestBody(requestWriter, objectMapper.getFactory(), executors.get(useCase));
+    }
+
+    private static BodyHandler<String> ofStringBody() {
+        return responseInfo -> BodySubscribers.ofString(StandardCharsets.UTF_8);
+    }
+
+    private void cancel(CompletableFuture<?> future, LineSubscriber lineSubscriber) {
+        if (lineSubscriber != null) {
+            lineSubscriber.cancel();
+        }
+        future.cancel(true);
+    }
+
+    private static boolean isSuccessful(int statusCode) {
+        return statusCode >= 200 && statusCode < 300;
+    }
+
+    private static String toStreamUrl(String apiUrl) {
+        // gemini.api.template(...:generateContent?key=%s)을 SSE 스트리밍 엔드포인트로 변환
+        return apiUrl.replace(STREAM_PATH_FROM, STREAM_PATH_TO);
+    }
+
+    private static String toCachedContentsUrl(String apiUrl) {
+        // .../v1beta/models/{model}:generateContent?key=... → .../v1beta/cachedContents?key=...
+        int modelsIndex = apiUrl.indexOf(MODELS_PATH);
+        int queryIndex = apiUrl.indexOf('?');
+        if (modelsIndex < 0) {
+            return apiUrl;
+        }
+        return apiUrl.substring(0, modelsIndex) + CACHED_CONTENTS_PATH
+                + (queryIndex < 0 ? "" : apiUrl.substring(queryIndex));
+    }
+
+    private static String modelOf(String apiUrl) {
+        Matcher matcher = MODEL_PATTERN.matcher(apiUrl);
+        return matcher.find() ? matcher.group(1) : UNKNOWN_MODEL;
+    }
+
+    private static String abbreviate(String body) {
+        if (body == null || body.length() <= ERROR_BODY_LOG_LENGTH) {
+            return body;
+        }
+        return body.substring(0, ERROR_BODY_LOG_LENGTH) + "...";
+    }
+
+    /**
+     * 제한 시간 초과로 취소된 뒤에는 남은 줄을 전달하지 않는 구독자
+     */
+    private static class LineSubscriber implements Flow.Subscriber<String> {
+
+        private final Consumer<String> lineHandler;
+        private volatile Flow.Subscription subscription;
+        private volatile boolean cancelled;
+
+        private LineSubscriber(Consumer<String> lineHandler) {
+            this.lineHandler = lineHandler;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (cancelled) {
+                subscription.cancel();
+                return;
+            }
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(String line) {
+            if (!cancelled) {
+                lineHandler.accept(line);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+
+        private void cancel() {
+            cancelled = true;
+            Flow.Subscription current = subscription;
+            if (current != null) {
+                current.cancel();
+            }
+        }
+
+    }
+
+}
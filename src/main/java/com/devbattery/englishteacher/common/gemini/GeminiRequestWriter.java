@@ -0,0 +1,16 @@
+package com.devbattery.englishteacher.common.gemini;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+
+/**
+ * Gemini 요청 본문을 HTTP 요청 스트림에 바로 쓰는 작성기 (중간 Map이나 String을 만들지 않음)
+ * <p>
+ * 재전송 시 다시 호출될 수 있으므로 여러 번 호출해도 같은 본문을 써야 함
+ */
+@FunctionalInterface
+public interface GeminiRequestWriter {
+
+    void writeTo(JsonGenerator generator) throws IOException;
+
+}
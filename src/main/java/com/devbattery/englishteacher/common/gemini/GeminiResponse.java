@@ -0,0 +1,16 @@
+package com.devbattery.englishteacher.common.gemini;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Gemini 응답에서 필요한 값만 추출한 결과 (candidates[0]의 첫 text, finishReason, usageMetadata)
+ */
+public record GeminiResponse(@Nullable String text, @Nullable String finishReason, @Nullable GeminiUsage usage) {
+
+    public static final GeminiResponse EMPTY = new GeminiResponse(null, null, null);
+
+    public boolean hasText() {
+        return text != null && !text.isBlank();
+    }
+
+}
@@ -0,0 +1,142 @@
+package com.devbattery.englishteacher.common.gemini;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Gemini 응답을 트리로 만들지 않고 JsonParser로 필요한 경로만 읽어 GeminiResponse로 추출 (나머지 필드는 건너뜀)
+ */
+@Slf4j
+@Component
+public class GeminiResponseParser {
+
+    private static final int ERROR_BODY_LOG_LENGTH = 500;
+
+    private final JsonFactory jsonFactory;
+
+    public GeminiResponseParser(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * 형식이 맞지 않는 응답은 로그를 남기고 GeminiResponse.EMPTY를 반환
+     */
+    public GeminiResponse parse(String json) {
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            return readResponse(parser);
+        } catch (IOException e) {
+            log.error("Gemini 응답 파싱 실패: {}", json.length() > ERROR_BODY_LOG_LENGTH
+                    ? json.substring(0, ERROR_BODY_LOG_LENGTH) + "..." : json, e);
+            return GeminiResponse.EMPTY;
+        }
+    }
+
+    private GeminiResponse readResponse(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return GeminiResponse.EMPTY;
+        }
+
+        Candidate candidate = new Candidate();
+        GeminiUsage usage = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if ("candidates".equals(field) && token == JsonToken.START_ARRAY) {
+                readFirstCandidate(parser, candidate);
+            } else if ("usageMetadata".equals(field) && token == JsonToken.START_OBJECT) {
+                usage = readUsage(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new GeminiResponse(candidate.text, candidate.finishReason, usage);
+    }
+
+    private void readFirstCandidate(JsonParser parser, Candidate candidate) throws IOException {
+        boolean first = true;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (!first || parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            first = false;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken token = parser.nextToken();
+                if ("content".equals(field) && token == JsonToken.START_OBJECT) {
+                    candidate.text = readFirstPartText(parser);
+                } else if ("finishReason".equals(field)) {
+                    candidate.finishReason = parser.getValueAsString();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    /**
+     * content 객체 안의 parts 배열에서 첫 text 값을 읽음 (content 객체 끝까지 소비)
+     */
+    private String readFirstPartText(JsonParser parser) throws IOException {
+        String text = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if (!"parts".equals(field) || token != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (text != null || parser.currentToken() != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    continue;
+                }
+
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String partField = parser.currentName();
+                    parser.nextToken();
+                    if ("text".equals(partField)) {
+                        text = parser.getValueAsString();
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            }
+        }
+        return text;
+    }
+
+    private GeminiUsage readUsage(JsonParser parser) throws IOException {
+        int promptTokenCount = 0;
+        int candidatesTokenCount = 0;
+        int totalTokenCount = 0;
+        int cachedContentTokenCount = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "promptTokenCount" -> promptTokenCount = parser.getValueAsInt();
+                case "candidatesTokenCount" -> candidatesTokenCount = parser.getValueAsInt();
+                case "totalTokenCount" -> totalTokenCount = parser.getValueAsInt();
+                case "cachedContentTokenCount" -> cachedContentTokenCount = parser.getValueAsInt();
+                default -> parser.skipChildren();
+            }
+        }
+        return new GeminiUsage(promptTokenCount, candidatesTokenCount, totalTokenCount, cachedContentTokenCount);
+    }
+
+    private static class Candidate {
+
+        private String text;
+        private String finishReason;
+
+    }
+
+}
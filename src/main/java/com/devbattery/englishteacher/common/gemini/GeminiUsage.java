@@ -0,0 +1,9 @@
+package com.devbattery.englishteacher.common.gemini;
+
+/**
+ * Gemini 응답의 usageMetadata (토큰 수)
+ */
+public record GeminiUsage(int promptTokenCount, int candidatesTokenCount, int totalTokenCount,
+                          int cachedContentTokenCount) {
+
+}
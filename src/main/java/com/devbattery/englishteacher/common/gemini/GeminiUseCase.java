@@ -0,0 +1,34 @@
+package com.devbattery.englishteacher.common.gemini;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Gemini 호출 용도 (용도별로 HTTP 클라이언트, 타임아웃을 분리하고 API 키는 여러 용도가 공유할 수 있음)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum GeminiUseCase {
+
+    CHAT("gemini.api.key-chat"),
+    CHAT_STREAM("gemini.api.key-chat"),
+    CHAT_SUMMARY("gemini.api.key-chat"),
+    ARTICLE("gemini.api.key-article"),
+    TRANSLATION("gemini.api.key-translation");
+
+    private static final String API_KEY_PROPERTY_PREFIX = "gemini.api.key-";
+
+    private final String apiKeyProperty;
+
+    /**
+     * API 키 설정 이름 (gemini.api.key-chat → chat, 키별 동시 호출 제한과 메트릭 태그에 사용)
+     */
+    public String getApiKeyName() {
+        return apiKeyProperty.substring(API_KEY_PROPERTY_PREFIX.length());
+    }
+
+    public String getTagValue() {
+        return name().toLowerCase().replace('_', '-');
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.devbattery.englishteacher.common.gemini;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * GeminiRequestWriter가 쓰는 JSON을 파이프로 HTTP 요청 본문에 흘려보냄 (버퍼 크기만큼만 메모리를 사용)
+ */
+@Slf4j
+class StreamingRequestBody implements Closeable {
+
+    private static final int PIPE_BUFFER_SIZE = 64 * 1024;
+
+    private final GeminiRequestWriter requestWriter;
+    private final JsonFactory jsonFactory;
+    private final Executor writerExecutor;
+    private final List<PipedInputStream> openPipes = new CopyOnWriteArrayList<>();
+
+    StreamingRequestBody(GeminiRequestWriter requestWriter, JsonFactory jsonFactory, Executor writerExecutor) {
+        this.requestWriter = requestWriter;
+        this.jsonFactory = jsonFactory;
+        this.writerExecutor = writerExecutor;
+    }
+
+    BodyPublisher publisher() {
+        return BodyPublishers.ofInputStream(this::openPipe);
+    }
+
+    /**
+     * 요청이 끝나거나 취소되면 파이프를 닫아 쓰는 쪽 스레드가 가득 찬 버퍼에서 기다리지 않도록 함
+     */
+    @Override
+    public void close() {
+        openPipes.forEach(StreamingRequestBody::closeQuietly);
+        openPipes.clear();
+    }
+
+    private InputStream openPipe() {
+        PipedInputStream input = new PipedInputStream(PIPE_BUFFER_SIZE);
+        PipedOutputStream output;
+        try {
+            output = new PipedOutputStream(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        openPipes.add(input);
+        writerExecutor.execute(() -> write(input, output));
+        return input;
+    }
+
+    private void write(PipedInputStream input, PipedOutputStream output) {
+        try (JsonGenerator generator = jsonFactory.createGenerator(output, JsonEncoding.UTF8)) {
+            requestWriter.writeTo(generator);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Gemini 요청 본문 작성 중단: {}", e.getMessage());
+            // 읽는 쪽이 남은 본문을 기다리지 않고 요청을 실패시키도록 파이프를 닫음
+            closeQuietly(input);
+        }
+    }
+
+    private static void closeQuietly(InputStream input) {
+        try {
+            input.close();
+        } catch (IOException ignored) {
+            // 이미 닫힌 파이프
+        }
+    }
+
+}
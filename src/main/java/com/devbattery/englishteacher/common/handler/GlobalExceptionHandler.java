@@ -2,7 +2,9 @@ package com.devbattery.englishteacher.common.handler;
 
 import com.devbattery.englishteacher.common.exception.CustomException;
 import com.devbattery.englishteacher.common.exception.ErrorCode;
+import com.devbattery.englishteacher.common.exception.RateLimitExceededException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -18,6 +20,14 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, e.getErrorCode().getStatus());
     }
 
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleRateLimitExceededException(RateLimitExceededException e) {
+        log.warn("handleRateLimitExceededException: retryAfter {}s", e.getRetryAfterSeconds());
+        return ResponseEntity.status(e.getErrorCode().getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(new ErrorResponse(e.getErrorCode()));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception e) {
         log.error("Unhandled Exception in GlobalExceptionHandler: ", e);
@@ -0,0 +1,57 @@
+package com.devbattery.englishteacher.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.stereotype.Component;
+
+/**
+ * MyBatis 매퍼 메서드(MappedStatement id)별 SQL 실행 시간 기록 (mybatis.statements)
+ */
+@Component
+@RequiredArgsConstructor
+@Intercepts({
+        @Signature(type = Executor.class, method = "update",
+                args = {MappedStatement.class, Object.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class,
+                        BoundSql.class})
+})
+public class MyBatisMetricsInterceptor implements Interceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement statement = (MappedStatement) invocation.getArgs()[0];
+        long startNanos = System.nanoTime();
+        String outcome = "error";
+        try {
+            Object result = invocation.proceed();
+            outcome = "success";
+            return result;
+        } finally {
+            Timer.builder("mybatis.statements")
+                    .description("MyBatis 매퍼 메서드별 SQL 실행 시간")
+                    .tag("statement", statement.getId())
+                    .tag("command", statement.getSqlCommandType().name().toLowerCase())
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.devbattery.englishteacher.common.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Gemini를 호출하지 않고 응답할 요청을 요청 제한 계산에서 제외 (예: 저장된 응답을 재전송하는 재요청)
+ */
+public interface RateLimitBypass {
+
+    boolean bypasses(String routeName, String path, HttpServletRequest request);
+
+}
@@ -0,0 +1,14 @@
+package com.devbattery.englishteacher.common.ratelimit;
+
+/**
+ * 토큰 버킷 판정 결과 (거절된 경우 retryAfterMillis 후에 토큰이 생김)
+ */
+public record RateLimitDecision(boolean allowed, long retryAfterMillis) {
+
+    public static final RateLimitDecision ALLOWED = new RateLimitDecision(true, 0);
+
+    public static RateLimitDecision rejected(long retryAfterMillis) {
+        return new RateLimitDecision(false, retryAfterMillis);
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.devbattery.englishteacher.common.ratelimit;
+
+import com.devbattery.englishteacher.auth.domain.UserPrincipal;
+import com.devbattery.englishteacher.common.config.RateLimitProperties;
+import com.devbattery.englishteacher.common.config.RateLimitProperties.Route;
+import com.devbattery.englishteacher.common.exception.RateLimitExceededException;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Gemini를 호출하는 엔드포인트에 사용자·엔드포인트 분류별 요청 제한을 적용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private static final PathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final RateLimitProperties rateLimitProperties;
+    private final RedisTokenBucketRateLimiter rateLimiter;
+    private final List<RateLimitBypass> rateLimitBypasses;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // SSE 등 비동기 처리 후 재디스패치되는 요청은 이미 한 번 계산됨
+        if (!rateLimitProperties.isEnabled() || request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (Map.Entry<String, Route> entry : rateLimitProperties.getRoutes().entrySet()) {
+            Route route = entry.getValue();
+            if (!matches(route, request.getMethod(), path) || bypasses(entry.getKey(), path, request)) {
+                continue;
+            }
+
+            RateLimitDecision decision = rateLimiter.tryAcquire(entry.getKey(), resolveSubject(request), route);
+            if (!decision.allowed()) {
+                log.info("요청 제한 초과 (route: {}, path: {}, retryAfter: {}ms)", entry.getKey(), path,
+                        decision.retryAfterMillis());
+                throw new RateLimitExceededException(decision.retryAfterMillis());
+            }
+        }
+        return true;
+    }
+
+    private boolean matches(Route route, String method, String path) {
+        if (route.getMethod() != null && !route.getMethod().isBlank()
+                && !route.getMethod().equalsIgnoreCase(method)) {
+            return false;
+        }
+        return route.getPatterns().stream().anyMatch(pattern -> PATH_MATCHER.match(pattern, path));
+    }
+
+    private boolean bypasses(String routeName, String path, HttpServletRequest request) {
+        return rateLimitBypasses.stream().anyMatch(bypass -> bypass.bypasses(routeName, path, request));
+    }
+
+    private String resolveSubject(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal userPrincipal) {
+            return "user:" + userPrincipal.getId();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+}
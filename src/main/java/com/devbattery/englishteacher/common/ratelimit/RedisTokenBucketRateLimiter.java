@@ -0,0 +1,112 @@
+package com.devbattery.englishteacher.common.ratelimit;
+
+import com.devbattery.englishteacher.common.config.RateLimitProperties.Route;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis Lua 스크립트로 원자적으로 동작하는 분산 토큰 버킷
+ * <p>
+ * 버킷은 마지막 계산 시각과 남은 토큰만 저장하고, 요청마다 경과 시간만큼 토큰을 채운 뒤 하나를 소비
+ * 거절된 버킷은 다음 토큰이 생길 시각까지 로컬에서 바로 거절해 Redis 왕복을 생략
+ * (토큰은 시간이 지나야만 늘어나므로 그 전에는 어느 인스턴스에서도 허용될 수 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisTokenBucketRateLimiter {
+
+    private static final String RATE_LIMIT_PREFIX = "rate_limit:";
+    private static final int LOCAL_BLOCK_CLEANUP_THRESHOLD = 10_000;
+
+    /**
+     * {허용 여부(1/0), 다음 토큰까지 남은 ms}를 반환 (Lua 정수는 Long으로 변환됨)
+     */
+    private static final RedisScript<List<Long>> TOKEN_BUCKET_SCRIPT = longListScript("""
+            local capacity = tonumber(ARGV[1])
+            local refill_per_ms = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+            local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(bucket[1]) or capacity
+            local ts = tonumber(bucket[2]) or now
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * refill_per_ms)
+
+            local allowed = 0
+            local retry_after = 0
+            if tokens >= 1 then
+                tokens = tokens - 1
+                allowed = 1
+            else
+                retry_after = math.ceil((1 - tokens) / refill_per_ms)
+            end
+
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+            redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / refill_per_ms))
+            return {allowed, retry_after}
+            """);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 거절된 버킷 키 → 로컬에서 계속 거절할 시각 (System.nanoTime 기준)
+     */
+    private final Map<String, Long> localBlockedUntil = new ConcurrentHashMap<>();
+
+    public RateLimitDecision tryAcquire(String routeName, String subject, Route route) {
+        String key = RATE_LIMIT_PREFIX + routeName + ":" + subject;
+
+        long now = System.nanoTime();
+        Long blockedUntil = localBlockedUntil.get(key);
+        if (blockedUntil != null) {
+            long remainingNanos = blockedUntil - now;
+            if (remainingNanos > 0) {
+                return RateLimitDecision.rejected(Math.max(1, remainingNanos / 1_000_000));
+            }
+            localBlockedUntil.remove(key, blockedUntil);
+        }
+
+        List<Long> result;
+        try {
+            result = stringRedisTemplate.execute(TOKEN_BUCKET_SCRIPT, List.of(key),
+                    String.valueOf(route.getCapacity()), String.valueOf(route.refillTokensPerMillis()));
+        } catch (RuntimeException e) {
+            // Redis 장애로 서비스 전체를 막지 않도록 허용
+            log.warn("요청 제한 확인 실패로 요청을 허용 (key: {}): {}", key, e.getMessage());
+            return RateLimitDecision.ALLOWED;
+        }
+
+        if (result == null || result.size() < 2 || result.get(0) == 1L) {
+            return RateLimitDecision.ALLOWED;
+        }
+
+        long retryAfterMillis = Math.max(1, result.get(1));
+        blockLocally(key, now + retryAfterMillis * 1_000_000);
+        return RateLimitDecision.rejected(retryAfterMillis);
+    }
+
+    /**
+     * 결과 타입이 List.class로만 지정되므로 원소 타입은 여기서 한 번만 지정
+     */
+    @SuppressWarnings("unchecked")
+    private static RedisScript<List<Long>> longListScript(String script) {
+        return new DefaultRedisScript<>(script, (Class<List<Long>>) (Class<?>) List.class);
+    }
+
+    private void blockLocally(String key, long blockedUntil) {
+        if (localBlockedUntil.size() >= LOCAL_BLOCK_CLEANUP_THRESHOLD) {
+            long now = System.nanoTime();
+            localBlockedUntil.values().removeIf(until -> until - now <= 0);
+        }
+        localBlockedUntil.put(key, blockedUntil);
+    }
+
+}
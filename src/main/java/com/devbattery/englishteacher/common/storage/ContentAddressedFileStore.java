@@ -0,0 +1,233 @@
+package com.devbattery.englishteacher.common.storage;
+
+import com.devbattery.englishteacher.common.config.FileStorageProperties;
+import com.devbattery.englishteacher.common.exception.FileStorageException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 내용의 SHA-256으로 파일을 저장해 같은 내용은 한 번만 보관하고, 참조 수가 0이 되면 삭제
+ * <p>
+ * 경로는 해시 앞 두 바이트로 나눈 2단계 디렉터리(ab/cd/{hash}.{ext})라 디렉터리당 파일 수가 늘지 않음.
+ * 같은 해시의 저장·해제는 인스턴스 로컬 디스크 기준으로 락을 잡아 순서를 보장
+ */
+@Slf4j
+@Component
+public class ContentAddressedFileStore {
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final String INCOMING_DIR = ".incoming";
+    private static final int LOCK_STRIPES = 64;
+
+    private final MongoTemplate mongoTemplate;
+    private final Path rootDir;
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    public ContentAddressedFileStore(MongoTemplate mongoTemplate, FileStorageProperties fileStorageProperties) {
+        this.mongoTemplate = mongoTemplate;
+        this.rootDir = Paths.get(fileStorageProperties.getUploadDir());
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * 내용을 임시 파일로 스트리밍하며 해시를 계산한 뒤, 같은 내용이 없을 때만 최종 위치로 이동하고 참조 수를 1 늘림
+     */
+    public StoredFile store(InputStream content, String extension) {
+        IncomingFile incomingFile = writeIncoming(content);
+        Path incoming = incomingFile.path();
+        String hash = incomingFile.hash();
+
+        try {
+            long size = Files.size(incoming);
+            ReentrantLock lock = lockOf(hash);
+            lock.lock();
+            try {
+                StoredObject storedObject = mongoTemplate.findAndModify(
+                        Query.query(Criteria.where("_id").is(hash)),
+                        new Update().inc("refCount", 1)
+                                .setOnInsert("key", keyOf(hash, sanitizeExtension(extension)))
+                                .setOnInsert("size", size)
+                                .setOnInsert("createdAt", LocalDateTime.now()),
+                        FindAndModifyOptions.options().upsert(true).returnNew(true),
+                        StoredObject.class);
+
+                Path target = resolve(storedObject.getKey());
+                boolean deduplicated = Files.exists(target);
+                if (deduplicated) {
+                    deleteQuietly(incoming);
+                } else {
+                    try {
+                        Files.createDirectories(target.getParent());
+                        move(incoming, target);
+                    } catch (IOException e) {
+                        // 파일을 두지 못했으므로 방금 늘린 참조 수를 되돌림 (이 호출이 만든 기록이면 삭제)
+                        decrementRefCount(hash);
+                        throw e;
+                    }
+                }
+                return new StoredFile(hash, storedObject.getKey(), size, deduplicated);
+            } finally {
+                lock.unlock();
+            }
+        } catch (IOException e) {
+            deleteQuietly(incoming);
+            throw new FileStorageException();
+        }
+    }
+
+    /**
+     * 참조 수를 1 줄이고 0이 되면 원본과 파생 파일(같은 해시로 시작하는 파일)을 함께 삭제
+     */
+    public void release(String key) {
+        String hash = hashOf(key);
+        ReentrantLock lock = lockOf(hash);
+        lock.lock();
+        try {
+            StoredObject storedObject = decrementRefCount(hash);
+            if (storedObject != null) {
+                deleteWithVariants(resolve(storedObject.getKey()).getParent(), hash);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Path resolve(String key) {
+        return rootDir.resolve(key);
+    }
+
+    /**
+     * 같은 원본에서 파생된 파일(축소 이미지 등)의 경로 ({hash}{suffix}, 원본과 같은 디렉터리)
+     */
+    public Path resolveVariant(String key, String suffix) {
+        return resolve(key).resolveSibling(hashOf(key) + suffix);
+    }
+
+    public void writeVariant(String key, String suffix, byte[] bytes) {
+        Path incoming = rootDir.resolve(INCOMING_DIR).resolve(UUID.randomUUID().toString());
+        try {
+            Files.createDirectories(incoming.getParent());
+            Files.write(incoming, bytes);
+            move(incoming, resolveVariant(key, suffix));
+        } catch (IOException e) {
+            deleteQuietly(incoming);
+            throw new FileStorageException();
+        }
+    }
+
+    /**
+     * 이 저장소가 관리하는 키인지 여부 (도입 이전의 UUID 파일명은 false)
+     */
+    public static boolean isManagedKey(@Nullable String key) {
+        return key != null && key.matches("[0-9a-f]{2}/[0-9a-f]{2}/[0-9a-f]{64}(\\.[A-Za-z0-9]+)?");
+    }
+
+    private IncomingFile writeIncoming(InputStream content) {
+        Path incoming = rootDir.resolve(INCOMING_DIR).resolve(UUID.randomUUID().toString());
+        try {
+            Files.createDirectories(incoming.getParent());
+            MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
+            try (DigestInputStream input = new DigestInputStream(content, digest)) {
+                Files.copy(input, incoming);
+            }
+            return new IncomingFile(incoming, HexFormat.of().formatHex(digest.digest()));
+        } catch (IOException | NoSuchAlgorithmException e) {
+            deleteQuietly(incoming);
+            throw new FileStorageException();
+        }
+    }
+
+    /**
+     * 참조 수를 1 줄이고, 0이 되어 기록을 지웠으면 지운 기록을 반환 (남은 참조가 있으면 null)
+     */
+    @Nullable
+    private StoredObject decrementRefCount(String hash) {
+        StoredObject storedObject = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(hash).and("refCount").gt(0)),
+                new Update().inc("refCount", -1),
+                FindAndModifyOptions.options().returnNew(true),
+                StoredObject.class);
+        if (storedObject == null || storedObject.getRefCount() > 0) {
+            return null;
+        }
+
+        mongoTemplate.remove(Query.query(Criteria.where("_id").is(hash).and("refCount").lte(0)),
+                StoredObject.class);
+        return storedObject;
+    }
+
+    private void deleteWithVariants(Path directory, String hash) {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, hash + "*")) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            log.error("저장 파일 삭제 실패 (hash: {})", hash, e);
+        }
+    }
+
+    private ReentrantLock lockOf(String hash) {
+        return locks[Math.floorMod(hash.hashCode(), LOCK_STRIPES)];
+    }
+
+    private static String keyOf(String hash, String extension) {
+        return hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash + extension;
+    }
+
+    private static String sanitizeExtension(@Nullable String extension) {
+        if (extension == null || !extension.matches("\\.[A-Za-z0-9]{1,10}")) {
+            return "";
+        }
+        return extension.toLowerCase();
+    }
+
+    private static String hashOf(String key) {
+        String filename = key.substring(key.lastIndexOf('/') + 1);
+        int extensionIndex = filename.indexOf('.');
+        return extensionIndex < 0 ? filename : filename.substring(0, extensionIndex);
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", path, e);
+        }
+    }
+
+    private record IncomingFile(Path path, String hash) {
+
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.devbattery.englishteacher.common.storage;
+
+/**
+ * @param key           업로드 디렉터리 기준 상대 경로 (URL 경로로도 사용)
+ * @param deduplicated  같은 내용이 이미 저장되어 있어 새로 쓰지 않았는지 여부
+ */
+public record StoredFile(String hash, String key, long size, boolean deduplicated) {
+
+}
@@ -0,0 +1,30 @@
+package com.devbattery.englishteacher.common.storage;
+
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * 콘텐츠 주소 기반 저장소에 보관된 파일 한 건과 그 참조 수 (id는 내용의 SHA-256)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Document(collection = "stored_objects")
+public class StoredObject {
+
+    @Id
+    private String id;
+
+    /**
+     * 업로드 디렉터리 기준 상대 경로 (ab/cd/{hash}.{ext})
+     */
+    private String key;
+
+    private long size;
+    private long refCount;
+    private LocalDateTime createdAt;
+
+}
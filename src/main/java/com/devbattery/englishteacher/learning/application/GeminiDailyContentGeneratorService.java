@@ -2,78 +2,93 @@ package com.devbattery.englishteacher.learning.application;
 
 import com.devbattery.englishteacher.common.config.GeminiPromptProperties;
 import com.devbattery.englishteacher.common.exception.GeminiApiException;
-import com.devbattery.englishteacher.common.exception.ServerErrorException;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.devbattery.englishteacher.common.gemini.GeminiClient;
+import com.devbattery.englishteacher.common.gemini.GeminiResponse;
+import com.devbattery.englishteacher.common.gemini.GeminiUseCase;
+import com.devbattery.englishteacher.learning.domain.KeyExpression;
+import com.devbattery.englishteacher.learning.domain.LearningContent;
+import com.devbattery.englishteacher.usage.application.TokenUsageService;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestTemplate;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class GeminiDailyContentGeneratorService {
 
-    @Value("${gemini.api.key-article}")
-    private String apiKey;
+    private static final String DEFAULT_TITLE = "No Title Provided";
+    private static final String DEFAULT_CONTENT = "No content available.";
+    private static final TypeReference<List<KeyExpression>> KEY_EXPRESSIONS_TYPE = new TypeReference<>() {
+    };
 
-    @Value("${gemini.api.template}")
-    private String apiTemplate;
-
-    private final RestTemplate restTemplate;
+    private final GeminiClient geminiClient;
     private final ObjectMapper objectMapper;
     private final GeminiPromptProperties promptProperties;
+    private final TokenUsageService tokenUsageService;
 
-    public String generateDailyContent(String level) {
+    /**
+     * 레벨별 글을 생성해 응답 text(JSON 문자열)를 트리 없이 바로 LearningContent로 바인딩 (id는 저장 전이므로 null)
+     */
+    public LearningContent generateDailyContent(String level, LocalDate date, String userName) {
         String systemPrompt = createPromptForLevel(level);
         String requestBody = createRequestBody(systemPrompt);
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        HttpEntity<String> entity = new HttpEntity<>(requestBody, headers);
-        String apiUrl = String.format(apiTemplate, apiKey);
+        log.info("{} 레벨의 Gemini 컨텐츠 생성", level);
+        GeminiResponse response = geminiClient.generateContent(GeminiUseCase.ARTICLE, requestBody);
+        // 레벨별로 하루 한 번 만드는 공용 콘텐츠이므로 요청한 사용자가 아닌 공용 사용량으로 집계
+        tokenUsageService.recordShared(response.usage());
+        if (!response.hasText()) {
+            // 기본 제목과 본문으로라도 생성되도록 빈 객체로 처리
+            log.error("text 필드를 찾을 수 없음 (finishReason: {})", response.finishReason());
+        }
 
         try {
-            log.info("{} 레벨의 Gemini 컨텐츠 생성", level);
-            ResponseEntity<String> response = restTemplate.postForEntity(apiUrl, entity, String.class);
-            return parseContentFromResponse(response.getBody());
-        } catch (HttpClientErrorException e) {
+            return bindArticle(response.hasText() ? response.text() : "{}", level, date, userName);
+        } catch (IOException e) {
+            log.error("Gemini 글 JSON 바인딩 실패", e);
             throw new GeminiApiException();
-        } catch (Exception e) {
-            throw new ServerErrorException();
         }
     }
 
-    private String parseContentFromResponse(String fullJsonResponse) {
-        try {
-            JsonNode rootNode = objectMapper.readTree(fullJsonResponse);
-            // JSON 경로: candidates -> [0] -> content -> parts -> [0] -> text
-            JsonNode textNode = rootNode.path("candidates").get(0).path("content").path("parts").get(0).path("text");
-
-            if (textNode.isMissingNode()) {
-                log.error("text 필드를 찾을 수 없음: {}", fullJsonResponse);
-                // LearningService가 처리할 수 있도록 빈 JSON 객체 문자열을 반환
-                return "{}";
+    private LearningContent bindArticle(String articleJson, String level, LocalDate date, String userName)
+            throws IOException {
+        String title = DEFAULT_TITLE;
+        String content = DEFAULT_CONTENT;
+        List<KeyExpression> keyExpressions = Collections.emptyList();
+
+        try (JsonParser parser = objectMapper.createParser(articleJson)) {
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    JsonToken token = parser.nextToken();
+                    switch (field) {
+                        case "title" -> title = parser.getValueAsString(DEFAULT_TITLE);
+                        case "content" -> content = parser.getValueAsString(DEFAULT_CONTENT);
+                        case "keyExpressions" -> {
+                            if (token == JsonToken.START_ARRAY) {
+                                keyExpressions = parser.readValueAs(KEY_EXPRESSIONS_TYPE);
+                            } else {
+                                parser.skipChildren();
+                            }
+                        }
+                        default -> parser.skipChildren();
+                    }
+                }
             }
-
-            // textNode.asText()는 이미 완벽한 JSON 문자열이므로 그대로 반환
-            return textNode.asText();
-
-        } catch (Exception e) {
-            log.error("Error parsing the outer structure of Gemini JSON response: {}", fullJsonResponse, e);
-            // 파싱 실패 시에도 빈 JSON 객체 문자열을 반환하여 NullPointerException 방지
-            return "{}";
         }
+
+        return new LearningContent(null, level, title, content, keyExpressions, userName, date);
     }
 
     private String createPromptForLevel(String level) {
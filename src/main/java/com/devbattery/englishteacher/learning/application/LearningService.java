@@ -4,6 +4,8 @@ import com.devbattery.englishteacher.common.exception.ContentGenerationFailedExc
 import com.devbattery.englishteacher.learning.application.dto.LearningContentResponse;
 import com.devbattery.englishteacher.learning.domain.LearningContent;
 import com.devbattery.englishteacher.learning.domain.repository.LearningContentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.time.LocalDate;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
@@ -21,8 +23,10 @@ public class LearningService {
     private final LearningContentRepository learningContentRepository;
     private final RedissonClient redissonClient;
     private final LearningDailyContentCreator learningDailyContentCreator; // [수정] 새로운 클래스 주입
+    private final MeterRegistry meterRegistry;
 
     private static final String LOCK_PREFIX = "lock:learning-content:";
+    private static final String LOCK_METRIC_NAME = "learning-content";
     private static final long WAIT_TIME_SECONDS = 10L;
     private static final long LEASE_TIME_SECONDS = 60L;
     private static final String GENERATED_STATUS = "GENERATED_NEW";
@@ -43,7 +47,9 @@ public class LearningService {
         RLock lock = redissonClient.getLock(lockKey);
 
         try {
+            long waitStartNanos = System.nanoTime();
             boolean lockAcquired = lock.tryLock(WAIT_TIME_SECONDS, LEASE_TIME_SECONDS, TimeUnit.SECONDS);
+            recordLockWait(lockAcquired, System.nanoTime() - waitStartNanos);
             if (!lockAcquired) {
                 log.warn("'{}' 레벨 콘텐츠 생성 락 획득 실패. 다른 사용자가 생성 완료될 때까지 대기.", level);
                 return fetchDailyContentAfterWait(level, today);
@@ -68,6 +74,15 @@ public class LearningService {
         }
     }
 
+    private void recordLockWait(boolean acquired, long waitNanos) {
+        Timer.builder("redisson.lock.wait")
+                .description("Redisson 분산 락 획득 대기 시간")
+                .tag("lock", LOCK_METRIC_NAME)
+                .tag("acquired", String.valueOf(acquired))
+                .register(meterRegistry)
+                .record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
     private LearningContentResponse fetchDailyContentAfterWait(String level, LocalDate today) {
         // 락 획득 실패 시, 잠시 대기 후 DB 재조회 (다른 스레드가 커밋할 시간을 줌)
         try {
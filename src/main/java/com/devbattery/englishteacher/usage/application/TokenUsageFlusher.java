@@ -0,0 +1,59 @@
+package com.devbattery.englishteacher.usage.application;
+
+import com.devbattery.englishteacher.usage.domain.entity.TokenUsage;
+import com.devbattery.englishteacher.usage.domain.repository.TokenUsageRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis에 쌓인 사용자별 토큰 사용량 누적값을 주기적으로 MySQL에 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenUsageFlusher {
+
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    private final TokenUsageService tokenUsageService;
+    private final TokenUsageRepository tokenUsageRepository;
+
+    @Scheduled(fixedDelayString = "#{@tokenBudgetProperties.flushInterval.toMillis()}",
+            initialDelayString = "#{@tokenBudgetProperties.flushInterval.toMillis()}")
+    public void flush() {
+        int flushed = 0;
+        try {
+            List<TokenUsage> usages;
+            while (!(usages = tokenUsageService.popDirtyUsages(FLUSH_BATCH_SIZE)).isEmpty()) {
+                save(usages);
+                flushed += usages.size();
+            }
+        } catch (RuntimeException e) {
+            log.warn("토큰 사용량 반영 실패 (반영 완료: {}건): {}", flushed, e.getMessage());
+            return;
+        }
+
+        if (flushed > 0) {
+            log.info("토큰 사용량 {}건을 MySQL에 반영", flushed);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void save(List<TokenUsage> usages) {
+        try {
+            tokenUsageRepository.saveAll(usages);
+        } catch (RuntimeException e) {
+            tokenUsageService.markDirty(usages);
+            throw e;
+        }
+    }
+
+}
@@ -0,0 +1,163 @@
+package com.devbattery.englishteacher.usage.application;
+
+import com.devbattery.englishteacher.common.config.TokenBudgetProperties;
+import com.devbattery.englishteacher.common.gemini.GeminiUsage;
+import com.devbattery.englishteacher.usage.domain.TokenBudgetStatus;
+import com.devbattery.englishteacher.usage.domain.entity.TokenUsage;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+/**
+ * 사용자별 하루 Gemini 토큰 사용량을 Redis 카운터로 누적하고 하루 예산 대비 상태를 판단
+ * <p>
+ * 카운터는 (날짜, 사용자)별 해시에 HINCRBY로 쌓고, 변경된 사용자는 dirty 집합에 넣어 {@link TokenUsageFlusher}가
+ * 주기적으로 MySQL에 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenUsageService {
+
+    /**
+     * 사용자에게 귀속되지 않는 공용 콘텐츠(오늘의 학습 글) 생성 사용량
+     */
+    public static final long SHARED_USER_ID = 0L;
+
+    private static final String USAGE_PREFIX = "token_usage:";
+    private static final String DIRTY_KEY = "token_usage:dirty";
+    private static final String MEMBER_SEPARATOR = ":";
+    private static final Duration USAGE_EXPIRATION = Duration.ofDays(2);
+
+    private static final String PROMPT_FIELD = "prompt";
+    private static final String OUTPUT_FIELD = "output";
+    private static final String CACHED_FIELD = "cached";
+    private static final String TOTAL_FIELD = "total";
+    private static final String REQUESTS_FIELD = "requests";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TokenBudgetProperties budgetProperties;
+
+    public void record(Long userId, @Nullable GeminiUsage usage) {
+        if (usage == null) {
+            return;
+        }
+
+        LocalDate today = LocalDate.now();
+        String key = usageKey(today, userId);
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                redis.hIncrBy(key, PROMPT_FIELD, usage.promptTokenCount());
+                redis.hIncrBy(key, OUTPUT_FIELD, usage.candidatesTokenCount());
+                redis.hIncrBy(key, CACHED_FIELD, usage.cachedContentTokenCount());
+                redis.hIncrBy(key, TOTAL_FIELD, usage.totalTokenCount());
+                redis.hIncrBy(key, REQUESTS_FIELD, 1);
+                redis.expire(key, USAGE_EXPIRATION.toSeconds());
+                redis.sAdd(DIRTY_KEY, today + MEMBER_SEPARATOR + userId);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            // 사용량 집계 실패로 대화를 막지 않음
+            log.warn("토큰 사용량 기록 실패 (userId: {}): {}", userId, e.getMessage());
+        }
+    }
+
+    public void recordShared(@Nullable GeminiUsage usage) {
+        record(SHARED_USER_ID, usage);
+    }
+
+    public long fetchTodayTotal(Long userId) {
+        Object total = stringRedisTemplate.opsForHash().get(usageKey(LocalDate.now(), userId), TOTAL_FIELD);
+        return total == null ? 0L : Long.parseLong(total.toString());
+    }
+
+    public TokenBudgetStatus checkBudget(Long userId) {
+        if (!budgetProperties.isEnabled()) {
+            return TokenBudgetStatus.NORMAL;
+        }
+
+        long total;
+        try {
+            total = fetchTodayTotal(userId);
+        } catch (RuntimeException e) {
+            log.warn("토큰 사용량 조회 실패로 예산 확인 생략 (userId: {}): {}", userId, e.getMessage());
+            return TokenBudgetStatus.NORMAL;
+        }
+
+        long limit = budgetProperties.getDailyLimit(userId);
+        if (total >= limit) {
+            return TokenBudgetStatus.EXHAUSTED;
+        }
+        if (total >= limit * budgetProperties.getDegradeRatio()) {
+            return TokenBudgetStatus.DEGRADED;
+        }
+        return TokenBudgetStatus.NORMAL;
+    }
+
+    /**
+     * dirty 집합에서 최대 batchSize명을 꺼내 현재 누적값을 반환 (꺼낸 뒤 다시 사용하면 dirty 집합에 다시 들어감)
+     */
+    List<TokenUsage> popDirtyUsages(int batchSize) {
+        List<String> members = stringRedisTemplate.opsForSet().pop(DIRTY_KEY, batchSize);
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> keys = members.stream()
+                .map(member -> USAGE_PREFIX + member)
+                .toList();
+        List<Object> hashes = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            keys.forEach(redis::hGetAll);
+            return null;
+        });
+
+        List<TokenUsage> usages = new ArrayList<>();
+        for (int i = 0; i < members.size(); i++) {
+            @SuppressWarnings("unchecked")
+            Map<String, String> counters = (Map<String, String>) hashes.get(i);
+            if (counters == null || counters.isEmpty()) {
+                continue;
+            }
+
+            String[] dateAndUser = members.get(i).split(MEMBER_SEPARATOR);
+            usages.add(new TokenUsage(Long.parseLong(dateAndUser[1]), LocalDate.parse(dateAndUser[0]),
+                    counter(counters, PROMPT_FIELD), counter(counters, OUTPUT_FIELD),
+                    counter(counters, CACHED_FIELD), counter(counters, TOTAL_FIELD),
+                    counter(counters, REQUESTS_FIELD)));
+        }
+        return usages;
+    }
+
+    /**
+     * MySQL 반영에 실패한 사용자를 다음 주기에 다시 반영하도록 dirty 집합에 되돌림
+     */
+    void markDirty(List<TokenUsage> usages) {
+        String[] members = usages.stream()
+                .map(usage -> usage.getUsageDate() + MEMBER_SEPARATOR + usage.getUserId())
+                .toArray(String[]::new);
+        if (members.length > 0) {
+            stringRedisTemplate.opsForSet().add(DIRTY_KEY, members);
+        }
+    }
+
+    private static String usageKey(LocalDate date, Long userId) {
+        return USAGE_PREFIX + date + MEMBER_SEPARATOR + userId;
+    }
+
+    private static long counter(Map<String, String> counters, String field) {
+        String value = counters.get(field);
+        return value == null ? 0L : Long.parseLong(value);
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.devbattery.englishteacher.usage.domain;
+
+/**
+ * 하루 토큰 예산 대비 사용 상태
+ */
+public enum TokenBudgetStatus {
+
+    /**
+     * 제한 없음
+     */
+    NORMAL,
+
+    /**
+     * 예산의 일정 비율을 넘어 대화 문맥을 줄이고 이미지 대화를 거절
+     */
+    DEGRADED,
+
+    /**
+     * 예산 소진으로 Gemini 호출 거절
+     */
+    EXHAUSTED
+
+}
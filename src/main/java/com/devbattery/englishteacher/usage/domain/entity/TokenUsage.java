@@ -0,0 +1,25 @@
+package com.devbattery.englishteacher.usage.domain.entity;
+
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 하루 Gemini 토큰 사용량 (Redis 카운터의 누적값을 주기적으로 반영)
+ */
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class TokenUsage {
+
+    private Long userId;
+    private LocalDate usageDate;
+    private long promptTokens;
+    private long outputTokens;
+    private long cachedTokens;
+    private long totalTokens;
+    private long requestCount;
+
+}
@@ -0,0 +1,17 @@
+package com.devbattery.englishteacher.usage.domain.repository;
+
+import com.devbattery.englishteacher.usage.domain.entity.TokenUsage;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface TokenUsageRepository {
+
+    /**
+     * (userId, usageDate)별 누적값으로 저장 (이미 있으면 덮어씀)
+     */
+    void saveAll(List<TokenUsage> usages);
+
+    Optional<TokenUsage> findByUserIdAndUsageDate(Long userId, LocalDate usageDate);
+
+}
@@ -0,0 +1,31 @@
+package com.devbattery.englishteacher.usage.infra.persistence;
+
+import com.devbattery.englishteacher.usage.domain.entity.TokenUsage;
+import com.devbattery.englishteacher.usage.domain.repository.TokenUsageRepository;
+import com.devbattery.englishteacher.usage.infra.persistence.mybatis.TokenUsageMapper;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class TokenUsageRepositoryImpl implements TokenUsageRepository {
+
+    private final TokenUsageMapper tokenUsageMapper;
+
+    @Override
+    public void saveAll(List<TokenUsage> usages) {
+        if (usages.isEmpty()) {
+            return;
+        }
+        tokenUsageMapper.upsertAll(usages);
+    }
+
+    @Override
+    public Optional<TokenUsage> findByUserIdAndUsageDate(Long userId, LocalDate usageDate) {
+        return Optional.ofNullable(tokenUsageMapper.findByUserIdAndUsageDate(userId, usageDate));
+    }
+
+}
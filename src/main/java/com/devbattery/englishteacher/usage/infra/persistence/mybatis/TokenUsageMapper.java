@@ -0,0 +1,16 @@
+package com.devbattery.englishteacher.usage.infra.persistence.mybatis;
+
+import com.devbattery.englishteacher.usage.domain.entity.TokenUsage;
+import java.time.LocalDate;
+import java.util.List;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface TokenUsageMapper {
+
+    void upsertAll(@Param("usages") List<TokenUsage> usages);
+
+    TokenUsage findByUserIdAndUsageDate(@Param("userId") Long userId, @Param("usageDate") LocalDate usageDate);
+
+}
@@ -8,7 +8,8 @@ import lombok.RequiredArgsConstructor;
 public enum Role {
 
     GUEST("ROLE_GUEST", "손님"),
-    USER("ROLE_USER", "유저");
+    USER("ROLE_USER", "유저"),
+    ADMIN("ROLE_ADMIN", "관리자");
 
     private final String key;
     private final String description;
@@ -1,34 +1,33 @@
 package com.devbattery.englishteacher.vocabulary.application;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.devbattery.englishteacher.common.exception.TokenBudgetExceededException;
+import com.devbattery.englishteacher.common.gemini.GeminiClient;
+import com.devbattery.englishteacher.common.gemini.GeminiResponse;
+import com.devbattery.englishteacher.common.gemini.GeminiUseCase;
+import com.devbattery.englishteacher.usage.application.TokenUsageService;
+import com.devbattery.englishteacher.usage.domain.TokenBudgetStatus;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class GeminiTranslationService {
 
-    @Value("${gemini.api.key-translation}")
-    private String apiKey;
-
-    @Value("${gemini.api.template}")
-    private String apiTemplate;
-
-    private final RestTemplate restTemplate;
+    private final GeminiClient geminiClient;
     private final ObjectMapper objectMapper;
+    private final TokenUsageService tokenUsageService;
+
+    public String translateToKorean(Long userId, String englishText) {
+        // 채팅과 같은 하루 토큰 예산을 공유 (소진 시 번역 실패 문구를 저장하지 않고 요청을 거절)
+        if (tokenUsageService.checkBudget(userId) == TokenBudgetStatus.EXHAUSTED) {
+            throw new TokenBudgetExceededException();
+        }
 
-    public String translateToKorean(String englishText) {
         String prompt = String.format(
                 "Translate the following English phrase to Korean. Provide ONLY the Korean translation and nothing else. Phrase: \"%s\"",
                 englishText
@@ -40,28 +39,21 @@ public class GeminiTranslationService {
 
         try {
             String requestBody = objectMapper.writeValueAsString(requestBodyMap);
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            HttpEntity<String> entity = new HttpEntity<>(requestBody, headers);
-            String apiUrl = String.format(apiTemplate, apiKey);
-            ResponseEntity<String> response = restTemplate.postForEntity(apiUrl, entity, String.class);
-            return parseTranslationFromResponse(response.getBody());
+            GeminiResponse response = geminiClient.generateContent(GeminiUseCase.TRANSLATION, requestBody);
+            tokenUsageService.record(userId, response.usage());
+            return parseTranslationFromResponse(response);
         } catch (Exception e) {
             log.error("{} 텍스트의 번역 실패", englishText, e);
             return "번역 실패";
         }
     }
 
-    private String parseTranslationFromResponse(String jsonResponse) {
-        try {
-            JsonNode root = objectMapper.readTree(jsonResponse);
-            String translatedText = root.path("candidates").get(0).path("content").path("parts").get(0).path("text")
-                    .asText();
-            return translatedText.trim();
-        } catch (Exception e) {
-            log.error("{} 응답의 파싱 오류", jsonResponse, e);
+    private String parseTranslationFromResponse(GeminiResponse response) {
+        if (!response.hasText()) {
+            log.error("번역 응답에 text 필드가 없음 (finishReason: {})", response.finishReason());
             return "번역 파싱 오류";
         }
+        return response.text().trim();
     }
 
 }
\ No newline at end of file
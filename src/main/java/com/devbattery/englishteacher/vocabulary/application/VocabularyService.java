@@ -39,7 +39,7 @@ public class VocabularyService {
 
     @Transactional
     public UserVocabulary saveNewWord(VocabSaveRequest request, Long userId) {
-        String koreanMeaning = translationService.translateToKorean(request.getExpression());
+        String koreanMeaning = translationService.translateToKorean(userId, request.getExpression());
         UserVocabulary newVocab = new UserVocabulary(userId, request.getExpression(), koreanMeaning, false);
         vocabularyRepository.save(newVocab);
         return newVocab;
@@ -0,0 +1,217 @@
+package com.devbattery.englishteacher.acceptance.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devbattery.englishteacher.acceptance.AcceptanceTest;
+import com.devbattery.englishteacher.acceptance.util.GeminiStubServer;
+import com.devbattery.englishteacher.acceptance.util.GeminiStubServer.Behavior;
+import com.devbattery.englishteacher.acceptance.util.GeminiStubServer.LatencyDistribution;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Gemini 스텁 서버를 통해 실제 컨트롤러에 부하를 주고 엔드포인트별 처리량, p50/p99 지연, 오류율을 보고
+ * <p>
+ * 기본 test 태스크에서는 제외되며 ./gradlew loadTest -Dloadtest.users=50 -Dloadtest.duration-seconds=60 처럼 실행
+ */
+@Slf4j
+@Tag("load")
+@DisplayName("Gemini 호출 엔드포인트 부하 테스트")
+class GeminiLoadTest extends AcceptanceTest {
+
+    private static final int USERS = Integer.getInteger("loadtest.users", 20);
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 30));
+    private static final String LEVEL = "elementary";
+
+    private static final GeminiStubServer GEMINI = GeminiStubServer.start(Map.of(
+                    GeminiStubServer.CHAT_KEY, Behavior.of(LatencyDistribution.logNormal(
+                            Duration.ofMillis(1200), Duration.ofMillis(4000))).withErrorRate(0.01, 503),
+                    GeminiStubServer.ARTICLE_KEY, Behavior.of(LatencyDistribution.logNormal(
+                            Duration.ofSeconds(8), Duration.ofSeconds(20))),
+                    GeminiStubServer.TRANSLATION_KEY, Behavior.of(LatencyDistribution.logNormal(
+                            Duration.ofMillis(400), Duration.ofMillis(1500))).withErrorRate(0.01, 429)),
+            Behavior.of(LatencyDistribution.fixed(Duration.ofMillis(500))));
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final AtomicLong WORD_SEQUENCE = new AtomicLong();
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final LoadTestReport report = new LoadTestReport();
+
+    @DynamicPropertySource
+    static void setGeminiProperties(DynamicPropertyRegistry registry) {
+        registry.add("gemini.api.template", GEMINI::apiTemplate);
+        registry.add("gemini.api.key-chat", () -> GeminiStubServer.CHAT_KEY);
+        registry.add("gemini.api.key-article", () -> GeminiStubServer.ARTICLE_KEY);
+        registry.add("gemini.api.key-translation", () -> GeminiStubServer.TRANSLATION_KEY);
+        // 인스턴스 용량을 재는 것이므로 사용자별 요청 제한은 끔
+        registry.add("rate-limit.enabled", () -> "false");
+    }
+
+    @AfterAll
+    static void stopGemini() {
+        GEMINI.close();
+    }
+
+    @Test
+    @DisplayName("채팅, 스트리밍 채팅, 단어 저장(번역), 오늘의 학습 콘텐츠에 동시 부하를 주고 지표를 보고한다")
+    void when_gemini_endpoints_under_load_then_report_metrics() throws Exception {
+        // given
+        List<VirtualUser> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            String accessToken = 로그인한다("load-user-" + i + "@test.com", "load-user-" + i);
+            users.add(new VirtualUser(accessToken, 채팅방을_만든다(accessToken)));
+        }
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(USERS);
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + DURATION.toNanos();
+        List<Future<?>> futures = new ArrayList<>();
+        for (VirtualUser user : users) {
+            futures.add(executor.submit(() -> user.run(deadline)));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        // then
+        log.info("부하 테스트 결과 (users: {}, elapsed: {}s, gemini requests: {}, injected gemini errors: {}){}",
+                USERS, elapsed.toSeconds(), GEMINI.requestCount(), GEMINI.errorCount(), report.format(elapsed));
+        for (String endpoint : List.of("chat.send", "chat.stream", "vocabulary.save", "learning.today")) {
+            assertThat(report.requestCount(endpoint)).isPositive();
+        }
+    }
+
+    private String 로그인한다(String email, String name) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(jsonRequest("/api/test/login", null,
+                Map.of("email", email, "name", name, "imageUrl", "https://example.com/" + name + ".png")),
+                BodyHandlers.ofString());
+        return OBJECT_MAPPER.readTree(response.body()).get("accessToken").asText();
+    }
+
+    private String 채팅방을_만든다(String accessToken) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(
+                jsonRequest("/api/chat/rooms", accessToken, Map.of("level", LEVEL)), BodyHandlers.ofString());
+        return OBJECT_MAPPER.readTree(response.body()).get("conversationId").asText();
+    }
+
+    private HttpRequest jsonRequest(String path, String accessToken, Map<String, Object> body) throws IOException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri(path))
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .POST(BodyPublishers.ofByteArray(OBJECT_MAPPER.writeValueAsBytes(body)));
+        if (accessToken != null) {
+            builder.header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken);
+        }
+        return builder.build();
+    }
+
+    private HttpRequest chatRequest(String path, String accessToken, String conversationId) throws IOException {
+        String boundary = "load-" + UUID.randomUUID();
+        byte[] chatRequest = OBJECT_MAPPER.writeValueAsBytes(
+                Map.of("level", LEVEL, "conversationId", conversationId, "message", "How are you today?"));
+        String body = "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"request\"\r\n"
+                + "Content-Type: application/json\r\n\r\n"
+                + new String(chatRequest, StandardCharsets.UTF_8) + "\r\n"
+                + "--" + boundary + "--\r\n";
+
+        return HttpRequest.newBuilder(uri(path))
+                .header(HttpHeaders.CONTENT_TYPE, "multipart/form-data; boundary=" + boundary)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                .POST(BodyPublishers.ofString(body, StandardCharsets.UTF_8))
+                .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private class VirtualUser {
+
+        private final String accessToken;
+        private final String conversationId;
+
+        VirtualUser(String accessToken, String conversationId) {
+            this.accessToken = accessToken;
+            this.conversationId = conversationId;
+        }
+
+        void run(long deadline) {
+            int iteration = 0;
+            while (System.nanoTime() < deadline) {
+                try {
+                    switch (iteration++ % 4) {
+                        case 0 -> measure("chat.send", chatRequest("/api/chat/send", accessToken, conversationId));
+                        case 1 -> measure("chat.stream",
+                                chatRequest("/api/chat/send/stream", accessToken, conversationId));
+                        case 2 -> measure("vocabulary.save", jsonRequest("/api/vocabulary", accessToken,
+                                Map.of("expression", "stub word " + WORD_SEQUENCE.incrementAndGet())));
+                        default -> measure("learning.today",
+                                HttpRequest.newBuilder(uri("/api/learning/today/" + LEVEL))
+                                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                                        .GET()
+                                        .build());
+                    }
+                } catch (IOException e) {
+                    log.warn("부하 요청 생성 실패: {}", e.getMessage());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+        /**
+         * 응답 본문(SSE는 스트림 종료)까지 모두 받은 시점을 지연으로 기록
+         */
+        private void measure(String endpoint, HttpRequest request) throws InterruptedException {
+            long startedAt = System.nanoTime();
+            boolean success;
+            try {
+                HttpResponse<InputStream> response = httpClient.send(request, BodyHandlers.ofInputStream());
+                try (InputStream body = response.body()) {
+                    body.transferTo(OutputStream.nullOutputStream());
+                }
+                success = response.statusCode() >= 200 && response.statusCode() < 300;
+            } catch (IOException e) {
+                success = false;
+            }
+            report.record(endpoint, System.nanoTime() - startedAt, success);
+        }
+
+    }
+
+}
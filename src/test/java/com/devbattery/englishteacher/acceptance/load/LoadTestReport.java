@@ -0,0 +1,74 @@
+package com.devbattery.englishteacher.acceptance.load;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 엔드포인트별 처리량, p50/p99 지연, 오류율 집계
+ */
+public class LoadTestReport {
+
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, long latencyNanos, boolean success) {
+        endpoints.computeIfAbsent(endpoint, ignored -> new EndpointStats()).record(latencyNanos, success);
+    }
+
+    public long errorCount(String endpoint) {
+        EndpointStats stats = endpoints.get(endpoint);
+        return stats == null ? 0 : stats.errors.get();
+    }
+
+    public long requestCount(String endpoint) {
+        EndpointStats stats = endpoints.get(endpoint);
+        return stats == null ? 0 : stats.latencies.size();
+    }
+
+    public String format(Duration elapsed) {
+        StringBuilder report = new StringBuilder(String.format("%n%-22s %8s %10s %9s %9s %9s %8s%n",
+                "endpoint", "requests", "req/s", "p50(ms)", "p99(ms)", "max(ms)", "error%"));
+        endpoints.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> report.append(entry.getValue().format(entry.getKey(), elapsed)));
+        return report.toString();
+    }
+
+    private static class EndpointStats {
+
+        private final ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        private final AtomicLong errors = new AtomicLong();
+
+        void record(long latencyNanos, boolean success) {
+            latencies.add(latencyNanos);
+            if (!success) {
+                errors.incrementAndGet();
+            }
+        }
+
+        String format(String endpoint, Duration elapsed) {
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+            int count = sorted.size();
+            double throughput = count / Math.max(0.001, elapsed.toMillis() / 1000.0);
+            return String.format("%-22s %8d %10.1f %9.1f %9.1f %9.1f %7.2f%%%n", endpoint, count, throughput,
+                    percentileMillis(sorted, 0.50), percentileMillis(sorted, 0.99),
+                    percentileMillis(sorted, 1.0), count == 0 ? 0.0 : errors.get() * 100.0 / count);
+        }
+
+        private static double percentileMillis(List<Long> sorted, double percentile) {
+            if (sorted.isEmpty()) {
+                return 0.0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+            return sorted.get(Math.max(0, index)) / 1_000_000.0;
+        }
+
+    }
+
+}
@@ -0,0 +1,253 @@
+package com.devbattery.englishteacher.acceptance.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실제 Gemini 대신 generateContent / streamGenerateContent(alt=sse) / cachedContents에 응답하는 로컬 서버
+ * <p>
+ * API 키로 용도를 구분해 용도별 응답 지연 분포와 오류율을 적용
+ * (gemini.api.template과 gemini.api.key-*를 {@link #apiTemplate()}, {@link #CHAT_KEY} 등으로 지정해 사용)
+ */
+public class GeminiStubServer implements AutoCloseable {
+
+    public static final String CHAT_KEY = "stub-chat";
+    public static final String ARTICLE_KEY = "stub-article";
+    public static final String TRANSLATION_KEY = "stub-translation";
+
+    private static final String GENERATE_PATH = "/v1beta/models/gemini-stub:generateContent";
+    private static final String STREAM_PATH = "/v1beta/models/gemini-stub:streamGenerateContent";
+    private static final String CACHED_CONTENTS_PATH = "/v1beta/cachedContents";
+    private static final int STREAM_CHUNK_COUNT = 8;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Map<String, Behavior> behaviors;
+    private final Behavior defaultBehavior;
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong errorCount = new AtomicLong();
+    private final AtomicLong cachedContentCount = new AtomicLong();
+
+    private GeminiStubServer(Map<String, Behavior> behaviors, Behavior defaultBehavior) throws IOException {
+        this.behaviors = Map.copyOf(behaviors);
+        this.defaultBehavior = defaultBehavior;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext(GENERATE_PATH, this::handleGenerate);
+        server.createContext(STREAM_PATH, this::handleStream);
+        server.createContext(CACHED_CONTENTS_PATH, this::handleCachedContents);
+        server.setExecutor(executor);
+    }
+
+    public static GeminiStubServer start(Behavior defaultBehavior) {
+        return start(Map.of(), defaultBehavior);
+    }
+
+    public static GeminiStubServer start(Map<String, Behavior> behaviorsByKey, Behavior defaultBehavior) {
+        try {
+            GeminiStubServer stubServer = new GeminiStubServer(behaviorsByKey, defaultBehavior);
+            stubServer.server.start();
+            return stubServer;
+        } catch (IOException e) {
+            throw new IllegalStateException("Gemini 스텁 서버 시작 실패", e);
+        }
+    }
+
+    /**
+     * gemini.api.template 형식의 URL (%s 자리에 API 키)
+     */
+    public String apiTemplate() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + GENERATE_PATH + "?key=%s";
+    }
+
+    public long requestCount() {
+        return requestCount.get();
+    }
+
+    public long errorCount() {
+        return errorCount.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handleGenerate(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            exchange.getRequestBody().transferTo(OutputStream.nullOutputStream());
+            String apiKey = apiKeyOf(exchange.getRequestURI());
+            Behavior behavior = behaviors.getOrDefault(apiKey, defaultBehavior);
+            requestCount.incrementAndGet();
+
+            sleep(behavior.latency().sample());
+            if (behavior.shouldFail()) {
+                errorCount.incrementAndGet();
+                sendJson(exchange, behavior.errorStatus(), errorBody(behavior.errorStatus()));
+                return;
+            }
+            sendJson(exchange, 200, OBJECT_MAPPER.writeValueAsBytes(candidate(textFor(apiKey), 120)));
+        }
+    }
+
+    private void handleStream(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            exchange.getRequestBody().transferTo(OutputStream.nullOutputStream());
+            Behavior behavior = behaviors.getOrDefault(apiKeyOf(exchange.getRequestURI()), defaultBehavior);
+            requestCount.incrementAndGet();
+
+            // 전체 지연을 첫 토큰 전 대기와 조각 사이 간격으로 나눠 실제 스트리밍과 비슷하게 전송
+            Duration latency = behavior.latency().sample();
+            sleep(latency.dividedBy(2));
+            if (behavior.shouldFail()) {
+                errorCount.incrementAndGet();
+                sendJson(exchange, behavior.errorStatus(), errorBody(behavior.errorStatus()));
+                return;
+            }
+
+            exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+            OutputStream body = exchange.getResponseBody();
+            Duration chunkInterval = latency.dividedBy(2L * STREAM_CHUNK_COUNT);
+            for (int i = 0; i < STREAM_CHUNK_COUNT; i++) {
+                byte[] chunk = OBJECT_MAPPER.writeValueAsBytes(candidate("stub chunk " + i + ". ", 15));
+                body.write("data: ".getBytes(StandardCharsets.UTF_8));
+                body.write(chunk);
+                body.write("\r\n\r\n".getBytes(StandardCharsets.UTF_8));
+                body.flush();
+                sleep(chunkInterval);
+            }
+        }
+    }
+
+    private void handleCachedContents(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            Map<?, ?> request = OBJECT_MAPPER.readValue(exchange.getRequestBody(), Map.class);
+            long ttlSeconds = Long.parseLong(String.valueOf(request.get("ttl")).replace("s", ""));
+            sendJson(exchange, 200, OBJECT_MAPPER.writeValueAsBytes(Map.of(
+                    "name", "cachedContents/stub-" + cachedContentCount.incrementAndGet(),
+                    "expireTime", Instant.now().plusSeconds(ttlSeconds).toString())));
+        }
+    }
+
+    private static String textFor(String apiKey) throws IOException {
+        if (ARTICLE_KEY.equals(apiKey)) {
+            return OBJECT_MAPPER.writeValueAsString(Map.of(
+                    "title", "Stub Article",
+                    "content", "This article was generated by the local Gemini stub server.",
+                    "keyExpressions", List.of(Map.of(
+                            "expression", "stand in",
+                            "meaning", "대신하다"))));
+        }
+        if (TRANSLATION_KEY.equals(apiKey)) {
+            return "스텁 번역";
+        }
+        return "This is a stub reply from the local Gemini server.";
+    }
+
+    private static Map<String, Object> candidate(String text, int candidatesTokenCount) {
+        return Map.of(
+                "candidates", List.of(Map.of(
+                        "content", Map.of("role", "model", "parts", List.of(Map.of("text", text))),
+                        "finishReason", "STOP")),
+                "usageMetadata", Map.of(
+                        "promptTokenCount", 500,
+                        "candidatesTokenCount", candidatesTokenCount,
+                        "totalTokenCount", 500 + candidatesTokenCount));
+    }
+
+    private static byte[] errorBody(int status) throws IOException {
+        return OBJECT_MAPPER.writeValueAsBytes(Map.of(
+                "error", Map.of("code", status, "message", "stub error", "status", "UNAVAILABLE")));
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        exchange.getResponseBody().write(body);
+    }
+
+    private static String apiKeyOf(URI uri) {
+        Map<String, String> params = new HashMap<>();
+        String query = uri.getRawQuery();
+        if (query != null) {
+            for (String pair : query.split("&")) {
+                int separator = pair.indexOf('=');
+                if (separator > 0) {
+                    params.put(pair.substring(0, separator), pair.substring(separator + 1));
+                }
+            }
+        }
+        return params.getOrDefault("key", "");
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 용도별 응답 지연 분포와 오류율 (errorRate 비율만큼 errorStatus로 응답)
+     */
+    public record Behavior(LatencyDistribution latency, double errorRate, int errorStatus) {
+
+        public static Behavior of(LatencyDistribution latency) {
+            return new Behavior(latency, 0.0, 503);
+        }
+
+        public Behavior withErrorRate(double errorRate, int errorStatus) {
+            return new Behavior(latency, errorRate, errorStatus);
+        }
+
+        boolean shouldFail() {
+            return errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate;
+        }
+
+    }
+
+    /**
+     * 응답 지연 분포 (중앙값과 p99로 정하는 로그 정규 분포, 또는 고정값)
+     */
+    public record LatencyDistribution(Duration median, Duration p99) {
+
+        private static final double Z_99 = 2.326;
+
+        public static LatencyDistribution fixed(Duration latency) {
+            return new LatencyDistribution(latency, latency);
+        }
+
+        public static LatencyDistribution logNormal(Duration median, Duration p99) {
+            return new LatencyDistribution(median, p99);
+        }
+
+        public Duration sample() {
+            if (median.isZero() || p99.compareTo(median) <= 0) {
+                return median;
+            }
+            double sigma = Math.log((double) p99.toNanos() / median.toNanos()) / Z_99;
+            double sampled = median.toNanos() * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian());
+            return Duration.ofNanos((long) sampled);
+        }
+
+    }
+
+}
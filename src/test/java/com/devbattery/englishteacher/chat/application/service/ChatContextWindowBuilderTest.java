@@ -0,0 +1,78 @@
+package com.devbattery.englishteacher.chat.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devbattery.englishteacher.chat.domain.ChatMessage;
+import com.devbattery.englishteacher.chat.domain.ChatMessageSlice;
+import com.devbattery.englishteacher.common.config.ChatContextProperties;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ChatContextWindowBuilderTest {
+
+    private final ChatContextWindowBuilder builder = new ChatContextWindowBuilder(
+            new ChatContextProperties(Map.of("native", 100, "default", 1000), 2, 50, 100, Duration.ofMinutes(30)));
+
+    @Test
+    @DisplayName("토큰 예산 안에 들어가는 최근 메시지만 원문으로 포함하고, 밀려난 구간이 요약되지 않았으면 갱신이 필요하다")
+    void build_TrimsToTokenBudget() {
+        // given
+        List<ChatMessage> messages = messagesOf(10, "a".repeat(120)); // 메시지당 약 34토큰
+        ChatMessageSlice recent = new ChatMessageSlice(40, messages);
+
+        // when
+        ChatContextWindow window = builder.build("native", recent, "earlier summary", 30);
+
+        // then
+        assertThat(window.messages()).hasSize(2);
+        assertThat(window.startIndex()).isEqualTo(48);
+        assertThat(window.summary()).isEqualTo("earlier summary");
+        assertThat(window.summaryOutdated()).isTrue();
+    }
+
+    @Test
+    @DisplayName("예산을 넘더라도 최소 최근 메시지 수는 항상 포함한다")
+    void build_KeepsMinRecentMessages() {
+        // given
+        List<ChatMessage> messages = messagesOf(3, "a".repeat(2000));
+        ChatMessageSlice recent = new ChatMessageSlice(0, messages);
+
+        // when
+        ChatContextWindow window = builder.build("native", recent, null, 0);
+
+        // then
+        assertThat(window.messages()).hasSize(2);
+        assertThat(window.startIndex()).isEqualTo(1);
+        assertThat(window.summary()).isNull();
+    }
+
+    @Test
+    @DisplayName("대화 전체가 예산 안에 들어가면 요약 없이 모든 메시지를 보낸다")
+    void build_WholeConversationFits() {
+        // given
+        List<ChatMessage> messages = messagesOf(6, "hello");
+        ChatMessageSlice recent = new ChatMessageSlice(0, messages);
+
+        // when
+        ChatContextWindow window = builder.build("toeic", recent, "stale summary", 4);
+
+        // then
+        assertThat(window.messages()).hasSize(6);
+        assertThat(window.summary()).isNull();
+        assertThat(window.summaryOutdated()).isFalse();
+    }
+
+    private List<ChatMessage> messagesOf(int count, String text) {
+        List<ChatMessage> messages = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            messages.add(new ChatMessage(i % 2 == 0 ? "user" : "ai", text, LocalDateTime.now()));
+        }
+        return messages;
+    }
+
+}
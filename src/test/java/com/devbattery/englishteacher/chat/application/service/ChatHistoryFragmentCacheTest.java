@@ -0,0 +1,109 @@
+package com.devbattery.englishteacher.chat.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devbattery.englishteacher.chat.domain.ChatMessage;
+import com.devbattery.englishteacher.common.config.ChatContextProperties;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ChatHistoryFragmentCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ChatHistoryFragmentCache cache = new ChatHistoryFragmentCache(objectMapper,
+            new ChatContextProperties(Map.of(), 4, 50, 100, Duration.ofMinutes(30)), new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("다음 턴에는 이전 턴의 조각을 재사용하고, 미리 직렬화한 본문은 직접 직렬화한 본문과 같다")
+    void fragmentsOf_ReusesFragmentsAcrossTurns() throws IOException {
+        // given
+        List<ChatMessage> messages = messagesOf(6);
+        ChatContextWindow firstTurn = new ChatContextWindow(null, messages.subList(0, 4), 0, false);
+        ChatContextWindow secondTurn = new ChatContextWindow("summary", messages.subList(2, 6), 2, false);
+        List<SerializableString> previous = cache.fragmentsOf("conversation", firstTurn);
+
+        // when
+        List<SerializableString> fragments = cache.fragmentsOf("conversation", secondTurn);
+
+        // then
+        assertThat(fragments).hasSize(3);
+        assertThat(fragments.get(0)).isSameAs(previous.get(2));
+        assertThat(write(new GeminiChatRequest("prompt", secondTurn, null, null, null, fragments)))
+                .isEqualTo(write(new GeminiChatRequest("prompt", secondTurn, null, null)));
+    }
+
+    @Test
+    @DisplayName("같은 순번의 메시지가 달라지면 그 지점부터 다시 직렬화한다")
+    void fragmentsOf_ReserializesChangedMessages() throws IOException {
+        // given
+        List<ChatMessage> messages = messagesOf(3);
+        cache.fragmentsOf("conversation", new ChatContextWindow(null, messages, 0, false));
+        List<ChatMessage> changed = new ArrayList<>(messages.subList(0, 1));
+        changed.add(new ChatMessage("user", "retried message", LocalDateTime.now().plusDays(1)));
+        changed.add(new ChatMessage("user", "new message", LocalDateTime.now()));
+        ChatContextWindow window = new ChatContextWindow(null, changed, 0, false);
+
+        // when
+        List<SerializableString> fragments = cache.fragmentsOf("conversation", window);
+
+        // then
+        assertThat(fragments.get(1).getValue()).contains("retried message");
+        assertThat(write(new GeminiChatRequest("prompt", window, null, null, null, fragments)))
+                .isEqualTo(write(new GeminiChatRequest("prompt", window, null, null)));
+    }
+
+    @Test
+    @DisplayName("다시 읽은 메시지의 작성 시각이 밀리초 단위로 잘려 있어도 같은 메시지로 보고 조각을 재사용한다")
+    void fragmentsOf_ReusesFragmentsAfterReloadTruncatesTimestamps() {
+        // given
+        LocalDateTime sentAt = LocalDateTime.of(2024, 1, 1, 0, 0, 0, 123_456_789);
+        List<ChatMessage> inMemory = List.of(new ChatMessage("user", "hello", sentAt),
+                new ChatMessage("ai", "hi there", sentAt.plusNanos(1_000)),
+                new ChatMessage("user", "new message", sentAt.plusSeconds(1)));
+        List<SerializableString> previous = cache.fragmentsOf("conversation",
+                new ChatContextWindow(null, inMemory, 0, false));
+        List<ChatMessage> reloaded = inMemory.stream()
+                .map(message -> new ChatMessage(message.getSender(), message.getText(),
+                        message.getTimestamp().truncatedTo(ChronoUnit.MILLIS)))
+                .toList();
+
+        // when
+        List<SerializableString> fragments = cache.fragmentsOf("conversation",
+                new ChatContextWindow(null, reloaded, 0, false));
+
+        // then
+        assertThat(fragments).hasSize(2);
+        assertThat(fragments.get(0)).isSameAs(previous.get(0));
+        assertThat(fragments.get(1)).isSameAs(previous.get(1));
+    }
+
+    private List<ChatMessage> messagesOf(int count) {
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<ChatMessage> messages = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            messages.add(new ChatMessage(i % 2 == 0 ? "ai" : "user", "message \"" + i + "\"", base.plusMinutes(i)));
+        }
+        return messages;
+    }
+
+    private String write(GeminiChatRequest request) throws IOException {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+            request.writeTo(generator);
+        }
+        return writer.toString();
+    }
+
+}
@@ -0,0 +1,203 @@
+package com.devbattery.englishteacher.chat.application.service;
+
+import com.devbattery.englishteacher.chat.presentation.dto.ChatResponse;
+import com.devbattery.englishteacher.common.exception.CustomException;
+import com.devbattery.englishteacher.common.exception.IdempotencyKeyMismatchException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockMultipartFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChatIdempotencyServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final String IDEMPOTENCY_KEY = "retry-key";
+    private static final String REDIS_KEY = "chat_idempotency:1:retry-key";
+    private static final String FINGERPRINT = "fingerprint";
+
+    @InjectMocks
+    private ChatIdempotencyService chatIdempotencyService;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @Test
+    @DisplayName("Idempotency-Key가 없으면 Redis를 거치지 않고 바로 처리한다.")
+    void execute_WithoutKey_RunsAction() {
+        // given
+        ChatResponse expected = new ChatResponse("Hi!", "conversation-1");
+
+        // when
+        ChatResponse response = chatIdempotencyService.execute(USER_ID, " ", FINGERPRINT, () -> expected);
+
+        // then
+        assertThat(response).isEqualTo(expected);
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("처음 도착한 요청은 처리 후 응답을 완료 기록으로 저장한다.")
+    void execute_FirstRequest_StoresCompletedRecord() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq(REDIS_KEY), any(), any(Duration.class))).thenReturn(true);
+
+        // when
+        ChatResponse response = chatIdempotencyService.execute(USER_ID, IDEMPOTENCY_KEY, FINGERPRINT,
+                () -> new ChatResponse("Hi!", "conversation-1"));
+
+        // then
+        ArgumentCaptor<Object> recordCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(valueOperations).set(eq(REDIS_KEY), recordCaptor.capture(), any(Duration.class));
+        ChatIdempotencyRecord record = (ChatIdempotencyRecord) recordCaptor.getValue();
+        assertThat(record.isCompleted()).isTrue();
+        assertThat(record.getFingerprint()).isEqualTo(FINGERPRINT);
+        assertThat(record.getReply()).isEqualTo("Hi!");
+        assertThat(response).isEqualTo(new ChatResponse("Hi!", "conversation-1"));
+    }
+
+    @Test
+    @DisplayName("이미 완료된 Idempotency-Key로 재요청하면 Gemini를 다시 호출하지 않고 저장된 응답을 재전송한다.")
+    void execute_CompletedKey_ReplaysStoredResponse() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq(REDIS_KEY), any(), any(Duration.class))).thenReturn(false);
+        when(valueOperations.get(REDIS_KEY))
+                .thenReturn(new ChatIdempotencyRecord(true, FINGERPRINT, "Stored reply", "conversation-1"));
+        CountingAction action = new CountingAction();
+
+        // when
+        ChatResponse response = chatIdempotencyService.execute(USER_ID, IDEMPOTENCY_KEY, FINGERPRINT, action);
+
+        // then
+        assertThat(response).isEqualTo(new ChatResponse("Stored reply", "conversation-1"));
+        assertThat(action.calls.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 Idempotency-Key를 다른 요청 내용에 재사용하면 422로 거절한다.")
+    void execute_MismatchedFingerprint_ThrowsUnprocessableEntity() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq(REDIS_KEY), any(), any(Duration.class))).thenReturn(false);
+        when(valueOperations.get(REDIS_KEY))
+                .thenReturn(new ChatIdempotencyRecord(true, "other-fingerprint", "Stored reply", "conversation-1"));
+        CountingAction action = new CountingAction();
+
+        // when & then
+        assertThatThrownBy(() -> chatIdempotencyService.execute(USER_ID, IDEMPOTENCY_KEY, FINGERPRINT, action))
+                .isInstanceOf(IdempotencyKeyMismatchException.class)
+                .satisfies(e -> assertThat(((CustomException) e).getErrorCode().getStatus())
+                        .isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY));
+        assertThat(action.calls.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("처리에 실패하면 처리 중 기록을 지워 같은 Idempotency-Key의 재시도가 새로 처리된다.")
+    void execute_ActionFails_DeletesRecordSoRetryRunsAgain() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq(REDIS_KEY), any(), any(Duration.class))).thenReturn(true);
+
+        // when
+        assertThatThrownBy(() -> chatIdempotencyService.execute(USER_ID, IDEMPOTENCY_KEY, FINGERPRINT, () -> {
+            throw new IllegalStateException("gemini failed");
+        })).isInstanceOf(IllegalStateException.class);
+        ChatResponse retried = chatIdempotencyService.execute(USER_ID, IDEMPOTENCY_KEY, FINGERPRINT,
+                () -> new ChatResponse("Hi!", "conversation-1"));
+
+        // then
+        verify(redisTemplate).delete(REDIS_KEY);
+        assertThat(retried).isEqualTo(new ChatResponse("Hi!", "conversation-1"));
+    }
+
+    @Test
+    @DisplayName("처리 중 기록이 사라지면(원래 요청 실패) 기다리지 않고 바로 선점해 처리한다.")
+    void execute_InProgressRecordVanished_TakesOver() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq(REDIS_KEY), any(), any(Duration.class))).thenReturn(false, true);
+        when(valueOperations.get(REDIS_KEY)).thenReturn(null);
+        CountingAction action = new CountingAction();
+
+        // when
+        ChatResponse response = chatIdempotencyService.execute(USER_ID, IDEMPOTENCY_KEY, FINGERPRINT, action);
+
+        // then
+        assertThat(response).isEqualTo(new ChatResponse("Hi!", "conversation-1"));
+        assertThat(action.calls.get()).isEqualTo(1);
+        verify(redisTemplate, never()).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("완료된 Idempotency-Key만 재전송 대상으로 보고, 처리 중이거나 Redis를 읽지 못하면 새 요청으로 본다.")
+    void isCompleted_OnlyForCompletedRecord() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(REDIS_KEY))
+                .thenReturn(new ChatIdempotencyRecord(true, FINGERPRINT, "Stored reply", "conversation-1"))
+                .thenReturn(ChatIdempotencyRecord.inProgress(FINGERPRINT))
+                .thenThrow(new IllegalStateException("connection refused"));
+
+        // when & then
+        assertThat(chatIdempotencyService.isCompleted(USER_ID, IDEMPOTENCY_KEY)).isTrue();
+        assertThat(chatIdempotencyService.isCompleted(USER_ID, IDEMPOTENCY_KEY)).isFalse();
+        assertThat(chatIdempotencyService.isCompleted(USER_ID, IDEMPOTENCY_KEY)).isFalse();
+        assertThat(chatIdempotencyService.isCompleted(USER_ID, null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("파일명과 크기가 같아도 이미지 내용이 다르면 다른 요청으로 구분한다.")
+    void fingerprintOf_DistinguishesImagesByContent() {
+        // given
+        MockMultipartFile first = new MockMultipartFile("image", "photo.png", "image/png", new byte[]{1, 2, 3});
+        MockMultipartFile second = new MockMultipartFile("image", "photo.png", "image/png", new byte[]{3, 2, 1});
+        MockMultipartFile sameAsFirst = new MockMultipartFile("image", "retry.png", "image/png", new byte[]{1, 2, 3});
+
+        // when
+        String firstFingerprint = ChatIdempotencyService.fingerprintOf("conversation-1", "Look!", first);
+        String secondFingerprint = ChatIdempotencyService.fingerprintOf("conversation-1", "Look!", second);
+        String retriedFingerprint = ChatIdempotencyService.fingerprintOf("conversation-1", "Look!", sameAsFirst);
+
+        // then
+        assertThat(firstFingerprint).isNotEqualTo(secondFingerprint);
+        assertThat(firstFingerprint).isEqualTo(retriedFingerprint);
+    }
+
+    private static class CountingAction implements Supplier<ChatResponse> {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public ChatResponse get() {
+            calls.incrementAndGet();
+            return new ChatResponse("Hi!", "conversation-1");
+        }
+
+    }
+
+}
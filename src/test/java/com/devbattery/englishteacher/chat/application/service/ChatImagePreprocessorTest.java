@@ -0,0 +1,59 @@
+package com.devbattery.englishteacher.chat.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devbattery.englishteacher.common.config.ChatImageProperties;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ChatImagePreprocessorTest {
+
+    private final ChatImagePreprocessor preprocessor = new ChatImagePreprocessor(
+            new ChatImageProperties(256, 0.8f));
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("긴 변이 최대 크기를 넘는 이미지는 비율을 유지한 채 줄여 JPEG로 재인코딩한다")
+    void preprocess_DownscalesToJpeg() throws IOException {
+        // given
+        Path original = tempDir.resolve("photo.png");
+        ImageIO.write(new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_ARGB), "png", original.toFile());
+
+        // when
+        ChatImage image = preprocessor.preprocess(original, "image/png");
+
+        // then
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(image.bytes()));
+        assertThat(image.derived()).isTrue();
+        assertThat(image.mimeType()).isEqualTo("image/jpeg");
+        assertThat(decoded.getWidth()).isEqualTo(256);
+        assertThat(decoded.getHeight()).isEqualTo(128);
+    }
+
+    @Test
+    @DisplayName("디코딩할 수 없는 파일은 변환하지 않고 원본 MIME 타입을 그대로 사용한다")
+    void preprocess_FallsBackToOriginal() throws IOException {
+        // given
+        Path original = tempDir.resolve("photo.heic");
+        byte[] bytes = {1, 2, 3, 4};
+        Files.write(original, bytes);
+
+        // when
+        ChatImage image = preprocessor.preprocess(original, "image/heic");
+
+        // then
+        assertThat(image.derived()).isFalse();
+        assertThat(image.bytes()).isNull();
+        assertThat(image.mimeType()).isEqualTo("image/heic");
+    }
+
+}
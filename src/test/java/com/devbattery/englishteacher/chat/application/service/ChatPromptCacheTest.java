@@ -0,0 +1,193 @@
+package com.devbattery.englishteacher.chat.application.service;
+
+import com.devbattery.englishteacher.common.config.ChatPromptCacheProperties;
+import com.devbattery.englishteacher.common.config.GeminiPromptProperties;
+import com.devbattery.englishteacher.common.exception.GeminiApiException;
+import com.devbattery.englishteacher.common.gemini.GeminiCachedContent;
+import com.devbattery.englishteacher.common.gemini.GeminiClient;
+import com.devbattery.englishteacher.common.gemini.GeminiRequestWriter;
+import com.devbattery.englishteacher.common.gemini.GeminiUseCase;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ChatPromptCacheTest {
+
+    private static final String LEVEL = "elementary";
+    private static final String PROMPT = "You are a friendly English teacher for kids.";
+    private static final String DEFAULT_PROMPT = "You are an English teacher.";
+
+    private final GeminiClient geminiClient = mock(GeminiClient.class);
+    private final QueuedExecutor executor = new QueuedExecutor();
+    private final ChatPromptCacheProperties cacheProperties = new ChatPromptCacheProperties(true,
+            Duration.ofHours(1), Duration.ofMinutes(10), Duration.ofMinutes(1), Duration.ofMinutes(30));
+    private final GeminiPromptProperties promptProperties = new GeminiPromptProperties("learning",
+            Map.of("default", DEFAULT_PROMPT, LEVEL, PROMPT), Map.of());
+    private final ChatPromptCache chatPromptCache = new ChatPromptCache(geminiClient, cacheProperties,
+            promptProperties, executor);
+
+    @Test
+    @DisplayName("캐시가 등록되기 전에는 프롬프트를 그대로 보내도록 null을 반환하고, 등록은 요청 스레드 밖에서 한 번만 진행한다.")
+    void lookup_BeforeRegistration_FallsBackToInlinePrompt() {
+        // given
+        givenCachedContent("cachedContents/first", Instant.now().plus(Duration.ofHours(1)));
+
+        // when
+        String first = chatPromptCache.lookup(LEVEL, PROMPT);
+        String second = chatPromptCache.lookup(LEVEL, PROMPT);
+
+        // then
+        assertThat(first).isNull();
+        assertThat(second).isNull();
+        assertThat(executor.tasks).hasSize(1);
+        verifyNoInteractions(geminiClient);
+
+        executor.runAll();
+        assertThat(chatPromptCache.lookup(LEVEL, PROMPT)).isEqualTo("cachedContents/first");
+    }
+
+    @Test
+    @DisplayName("시작 시 레벨별 프롬프트와 기본 프롬프트를 미리 등록한다.")
+    void registerConfiguredPrompts_RegistersConfiguredPrompts() {
+        // given
+        givenCachedContent("cachedContents/first", Instant.now().plus(Duration.ofHours(1)));
+
+        // when
+        chatPromptCache.registerConfiguredPrompts();
+        executor.runAll();
+
+        // then
+        assertThat(chatPromptCache.lookup(LEVEL, PROMPT)).isEqualTo("cachedContents/first");
+        assertThat(chatPromptCache.lookup("default", DEFAULT_PROMPT)).isEqualTo("cachedContents/first");
+        verify(geminiClient, times(2)).createCachedContent(eq(GeminiUseCase.CHAT), any(GeminiRequestWriter.class),
+                eq(Duration.ofHours(1)));
+    }
+
+    @Test
+    @DisplayName("설정되지 않은 레벨은 기본 프롬프트의 캐시를 함께 쓰고, 레벨마다 새로 등록하지 않는다.")
+    void lookup_UnknownLevel_ReusesDefaultPromptCache() {
+        // given
+        givenCachedContent("cachedContents/default", Instant.now().plus(Duration.ofHours(1)));
+        chatPromptCache.lookup("unknown-1", DEFAULT_PROMPT);
+        executor.runAll();
+
+        // when
+        String second = chatPromptCache.lookup("unknown-2", DEFAULT_PROMPT);
+        String third = chatPromptCache.lookup("default", DEFAULT_PROMPT);
+
+        // then
+        assertThat(second).isEqualTo("cachedContents/default");
+        assertThat(third).isEqualTo("cachedContents/default");
+        assertThat(executor.tasks).isEmpty();
+        verify(geminiClient, times(1)).createCachedContent(eq(GeminiUseCase.CHAT), any(GeminiRequestWriter.class),
+                any());
+    }
+
+    @Test
+    @DisplayName("만료가 가까운 캐시는 교체가 끝날 때까지 기존 캐시를 쓰고, 교체 후에는 새 캐시를 쓴다.")
+    void refreshExpiring_ReplacesCacheInBackground() {
+        // given
+        when(geminiClient.createCachedContent(eq(GeminiUseCase.CHAT), any(GeminiRequestWriter.class), any()))
+                .thenReturn(new GeminiCachedContent("cachedContents/old", Instant.now().plus(Duration.ofMinutes(5))))
+                .thenReturn(new GeminiCachedContent("cachedContents/new", Instant.now().plus(Duration.ofHours(1))));
+        chatPromptCache.lookup(LEVEL, PROMPT);
+        executor.runAll();
+
+        // when
+        chatPromptCache.refreshExpiring();
+        String duringRefresh = chatPromptCache.lookup(LEVEL, PROMPT);
+        executor.runAll();
+
+        // then
+        assertThat(duringRefresh).isEqualTo("cachedContents/old");
+        assertThat(chatPromptCache.lookup(LEVEL, PROMPT)).isEqualTo("cachedContents/new");
+    }
+
+    @Test
+    @DisplayName("만료까지 여유가 있는 캐시는 교체하지 않는다.")
+    void refreshExpiring_KeepsFreshCache() {
+        // given
+        givenCachedContent("cachedContents/first", Instant.now().plus(Duration.ofHours(1)));
+        chatPromptCache.lookup(LEVEL, PROMPT);
+        executor.runAll();
+
+        // when
+        chatPromptCache.refreshExpiring();
+
+        // then
+        assertThat(executor.tasks).isEmpty();
+    }
+
+    @Test
+    @DisplayName("프롬프트 설정이 바뀌면 이전 캐시를 쓰지 않고 새 프롬프트로 다시 등록한다.")
+    void lookup_PromptChanged_Reregisters() {
+        // given
+        givenCachedContent("cachedContents/first", Instant.now().plus(Duration.ofHours(1)));
+        chatPromptCache.lookup(LEVEL, PROMPT);
+        executor.runAll();
+
+        // when
+        String changed = chatPromptCache.lookup(LEVEL, "You are a strict grammar teacher.");
+
+        // then
+        assertThat(changed).isNull();
+        assertThat(executor.tasks).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("등록이 거절된 레벨은 재시도 시각 전까지 다시 등록하지 않고 프롬프트를 그대로 보낸다.")
+    void lookup_RegistrationRejected_WaitsBeforeRetry() {
+        // given
+        when(geminiClient.createCachedContent(eq(GeminiUseCase.CHAT), any(GeminiRequestWriter.class), any()))
+                .thenThrow(new GeminiApiException());
+        chatPromptCache.lookup(LEVEL, PROMPT);
+        executor.runAll();
+
+        // when
+        String afterFailure = chatPromptCache.lookup(LEVEL, PROMPT);
+
+        // then
+        assertThat(afterFailure).isNull();
+        assertThat(executor.tasks).isEmpty();
+    }
+
+    private void givenCachedContent(String name, Instant expireTime) {
+        when(geminiClient.createCachedContent(eq(GeminiUseCase.CHAT), any(GeminiRequestWriter.class), any()))
+                .thenReturn(new GeminiCachedContent(name, expireTime));
+    }
+
+    /**
+     * 백그라운드 등록을 테스트 스레드에서 원하는 시점에 실행
+     */
+    private static class QueuedExecutor implements TaskExecutor {
+
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        private void runAll() {
+            while (!tasks.isEmpty()) {
+                tasks.poll().run();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,128 @@
+package com.devbattery.englishteacher.chat.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.devbattery.englishteacher.common.config.ChatSendLockProperties;
+import com.devbattery.englishteacher.common.config.ChatSendLockProperties.Mode;
+import com.devbattery.englishteacher.common.exception.ChatSendInProgressException;
+import com.devbattery.englishteacher.common.exception.CustomException;
+import com.devbattery.englishteacher.common.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.redisson.misc.CompletableFutureWrapper;
+
+class ChatSendLockTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("같은 대화의 다음 턴은 앞선 턴이 다른 스레드에서 락을 해제할 때까지 기다린다")
+    void acquire_WaitsForPreviousTurn() throws Exception {
+        // given
+        ChatSendLock lock = lockOf(Duration.ofSeconds(5));
+        ChatSendLock.Permit first = lock.acquire("conversation");
+
+        // when
+        CompletableFuture<ChatSendLock.Permit> second = CompletableFuture.supplyAsync(
+                () -> lock.acquire("conversation"));
+        Thread.sleep(100);
+        boolean acquiredBeforeRelease = second.isDone();
+        CompletableFuture.runAsync(first::close).get(1, TimeUnit.SECONDS);
+
+        // then
+        assertThat(acquiredBeforeRelease).isFalse();
+        second.get(1, TimeUnit.SECONDS).close();
+        assertThat(meterRegistry.counter("chat.send.lock.contended", "mode", "local").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 앞선 턴이 끝나지 않으면 진행 중 예외를 던진다")
+    void acquire_ThrowsWhenWaitTimesOut() {
+        // given
+        ChatSendLock lock = lockOf(Duration.ofMillis(50));
+        ChatSendLock.Permit first = lock.acquire("conversation");
+
+        // when & then
+        assertThatThrownBy(() -> lock.acquire("conversation"))
+                .isInstanceOf(ChatSendInProgressException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.CHAT_SEND_IN_PROGRESS);
+        assertThat(meterRegistry.timer("chat.send.lock.wait", "mode", "local", "acquired", "false").count())
+                .isEqualTo(1);
+        first.close();
+        first.close();
+        lock.acquire("conversation").close();
+    }
+
+    @Test
+    @DisplayName("REDISSON 모드는 대화별 공정 락을 턴마다 만든 소유자 id로 잡고, 해제도 같은 소유자 id로 한다")
+    void acquire_RedissonMode_LocksAndUnlocksWithTurnOwner() {
+        // given
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        RLock rLock = mock(RLock.class);
+        when(redissonClient.getFairLock("lock:chat-send:conversation")).thenReturn(rLock);
+        when(rLock.tryLockAsync(eq(0L), eq(180_000L), eq(TimeUnit.MILLISECONDS), anyLong()))
+                .thenReturn(new CompletableFutureWrapper<>(Boolean.TRUE));
+        when(rLock.unlockAsync(anyLong())).thenReturn(new CompletableFutureWrapper<>((Void) null));
+        ChatSendLock lock = redissonLockOf(redissonClient, Duration.ofSeconds(5));
+
+        // when
+        ChatSendLock.Permit permit = lock.acquire("conversation");
+        permit.close();
+        permit.close();
+
+        // then
+        ArgumentCaptor<Long> lockOwner = ArgumentCaptor.forClass(Long.class);
+        verify(rLock).tryLockAsync(eq(0L), eq(180_000L), eq(TimeUnit.MILLISECONDS), lockOwner.capture());
+        verify(rLock, times(1)).unlockAsync(lockOwner.getValue());
+        assertThat(meterRegistry.counter("chat.send.lock.contended", "mode", "redisson").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("REDISSON 모드에서 대기 시간 안에 락을 얻지 못하면 CHAT_SEND_IN_PROGRESS 예외를 던진다")
+    void acquire_RedissonMode_ThrowsWhenWaitTimesOut() {
+        // given
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        RLock rLock = mock(RLock.class);
+        when(redissonClient.getFairLock("lock:chat-send:conversation")).thenReturn(rLock);
+        when(rLock.tryLockAsync(anyLong(), eq(180_000L), eq(TimeUnit.MILLISECONDS), anyLong()))
+                .thenReturn(new CompletableFutureWrapper<>(Boolean.FALSE));
+        ChatSendLock lock = redissonLockOf(redissonClient, Duration.ofMillis(50));
+
+        // when & then
+        assertThatThrownBy(() -> lock.acquire("conversation"))
+                .isInstanceOf(ChatSendInProgressException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.CHAT_SEND_IN_PROGRESS);
+        verify(rLock).tryLockAsync(eq(50L), eq(180_000L), eq(TimeUnit.MILLISECONDS), anyLong());
+        verify(rLock, never()).unlockAsync(anyLong());
+        assertThat(meterRegistry.counter("chat.send.lock.contended", "mode", "redisson").count()).isEqualTo(1);
+    }
+
+    private ChatSendLock lockOf(Duration waitTimeout) {
+        return new ChatSendLock(mock(RedissonClient.class),
+                new ChatSendLockProperties(true, Mode.LOCAL, 16, waitTimeout, Duration.ofMinutes(3)), meterRegistry);
+    }
+
+    private ChatSendLock redissonLockOf(RedissonClient redissonClient, Duration waitTimeout) {
+        return new ChatSendLock(redissonClient,
+                new ChatSendLockProperties(true, Mode.REDISSON, 16, waitTimeout, Duration.ofMinutes(3)),
+                meterRegistry);
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.devbattery.englishteacher.chat.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devbattery.englishteacher.chat.domain.ChatMessage;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class GeminiChatRequestTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("시스템 프롬프트, 요약, 대화 순서로 contents를 작성한다")
+    void writeTo_WritesPromptSummaryAndMessages() throws IOException {
+        // given
+        ChatContextWindow window = new ChatContextWindow("earlier summary", List.of(
+                new ChatMessage("ai", "Hello!", LocalDateTime.now()),
+                new ChatMessage("user", "Hi", LocalDateTime.now())), 10, false);
+
+        // when
+        JsonNode contents = write(new GeminiChatRequest("system prompt", window, null, null)).path("contents");
+
+        // then
+        assertThat(contents).hasSize(6);
+        assertThat(contents.path(0).path("parts").path(0).path("text").asText()).isEqualTo("system prompt");
+        assertThat(contents.path(2).path("parts").path(0).path("text").asText()).endsWith("earlier summary");
+        assertThat(contents.path(4).path("role").asText()).isEqualTo("model");
+        assertThat(contents.path(5).path("role").asText()).isEqualTo("user");
+        assertThat(contents.path(5).path("parts").path(0).path("text").asText()).isEqualTo("Hi");
+    }
+
+    @Test
+    @DisplayName("마지막 사용자 메시지에 저장된 이미지 파일을 base64 inline_data로 포함한다")
+    void writeTo_EncodesImageFromFile() throws IOException {
+        // given
+        byte[] imageBytes = new byte[10_000];
+        for (int i = 0; i < imageBytes.length; i++) {
+            imageBytes[i] = (byte) i;
+        }
+        Path image = Files.write(tempDir.resolve("image.jpg"), imageBytes);
+        ChatContextWindow window = new ChatContextWindow(null, List.of(
+                new ChatMessage("user", "What is this?", LocalDateTime.now(), "url")), 0, false);
+
+        // when
+        JsonNode contents = write(new GeminiChatRequest("system prompt", window, image, "image/jpeg"))
+                .path("contents");
+
+        // then
+        JsonNode parts = contents.path(2).path("parts");
+        assertThat(contents).hasSize(3);
+        assertThat(parts.path(0).path("inline_data").path("mime_type").asText()).isEqualTo("image/jpeg");
+        assertThat(Base64.getDecoder().decode(parts.path(0).path("inline_data").path("data").asText()))
+                .isEqualTo(imageBytes);
+        assertThat(parts.path(1).path("text").asText()).isEqualTo("What is this?");
+    }
+
+    @Test
+    @DisplayName("캐시된 프롬프트가 있으면 cachedContent를 참조하고 시스템 프롬프트 턴은 보내지 않는다")
+    void writeTo_ReferencesCachedPromptPrefix() throws IOException {
+        // given
+        ChatContextWindow window = new ChatContextWindow(null, List.of(
+                new ChatMessage("user", "Hi", LocalDateTime.now())), 0, false);
+
+        // when
+        JsonNode body = write(new GeminiChatRequest("system prompt", window, null, null, "cachedContents/abc"));
+
+        // then
+        assertThat(body.path("cachedContent").asText()).isEqualTo("cachedContents/abc");
+        assertThat(body.path("contents")).hasSize(1);
+        assertThat(body.path("contents").path(0).path("parts").path(0).path("text").asText()).isEqualTo("Hi");
+    }
+
+    private JsonNode write(GeminiChatRequest request) throws IOException {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+            request.writeTo(generator);
+        }
+        return objectMapper.readTree(writer.toString());
+    }
+
+}
@@ -0,0 +1,296 @@
+package com.devbattery.englishteacher.chat.application.service;
+
+import com.devbattery.englishteacher.chat.domain.ChatConversation;
+import com.devbattery.englishteacher.chat.domain.ChatMessage;
+import com.devbattery.englishteacher.chat.presentation.dto.ChatResponse;
+import com.devbattery.englishteacher.common.config.FileStorageProperties;
+import com.devbattery.englishteacher.common.config.GeminiPromptProperties;
+import com.devbattery.englishteacher.common.config.TokenBudgetProperties;
+import com.devbattery.englishteacher.common.exception.ChatConversationConflictException;
+import com.devbattery.englishteacher.common.exception.GeminiApiException;
+import com.devbattery.englishteacher.common.gemini.GeminiClient;
+import com.devbattery.englishteacher.common.gemini.GeminiRequestWriter;
+import com.devbattery.englishteacher.common.gemini.GeminiResponse;
+import com.devbattery.englishteacher.common.gemini.GeminiResponseParser;
+import com.devbattery.englishteacher.common.gemini.GeminiUseCase;
+import com.devbattery.englishteacher.common.storage.ContentAddressedFileStore;
+import com.devbattery.englishteacher.common.storage.StoredFile;
+import com.devbattery.englishteacher.usage.domain.TokenBudgetStatus;
+import com.devbattery.englishteacher.usage.application.TokenUsageService;
+import com.devbattery.englishteacher.user.application.service.UserReadService;
+import com.devbattery.englishteacher.user.domain.Role;
+import com.devbattery.englishteacher.user.domain.entity.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GeminiChatServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final String LEVEL = "elementary";
+    private static final String CONVERSATION_ID = "conversation-1";
+    private static final String IMAGE_KEY = "ab/abcdef.png";
+
+    @InjectMocks
+    private GeminiChatService geminiChatService;
+
+    @Mock
+    private GeminiClient geminiClient;
+
+    @Mock
+    private GeminiResponseParser geminiResponseParser;
+
+    @Mock
+    private UserReadService userReadService;
+
+    @Mock
+    private ChatConversationService chatConversationService;
+
+    @Mock
+    private TaskExecutor chatStreamExecutor;
+
+    @Mock
+    private ChatContextWindowBuilder chatContextWindowBuilder;
+
+    @Mock
+    private ChatImagePreprocessor chatImagePreprocessor;
+
+    @Mock
+    private ContentAddressedFileStore contentAddressedFileStore;
+
+    @Mock
+    private GeminiChatSummaryService geminiChatSummaryService;
+
+    @Mock
+    private TokenUsageService tokenUsageService;
+
+    @Mock
+    private ChatPromptCache chatPromptCache;
+
+    @Mock
+    private ChatHistoryFragmentCache chatHistoryFragmentCache;
+
+    @Mock
+    private ChatSendLock chatSendLock;
+
+    @Spy
+    private FileStorageProperties fileStorageProperties = new FileStorageProperties("uploads", "/uploads/");
+
+    @Spy
+    private GeminiPromptProperties promptProperties =
+            new GeminiPromptProperties("learning", Map.of("default", "You are an English teacher."), Map.of());
+
+    @Spy
+    private TokenBudgetProperties tokenBudgetProperties = new TokenBudgetProperties();
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ChatConversation conversation;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(geminiChatService, "apiUrl", "http://localhost:8080");
+
+        conversation = conversationOf(1L);
+        conversation.addMessage("ai", "Hello! What did you do today?");
+
+        when(chatSendLock.acquire(CONVERSATION_ID)).thenReturn(ChatSendLock.Permit.NONE);
+        when(tokenUsageService.checkBudget(USER_ID)).thenReturn(TokenBudgetStatus.NORMAL);
+        when(chatContextWindowBuilder.build(eq(LEVEL), any(), any(), anyLong(), anyDouble()))
+                .thenReturn(new ChatContextWindow(null, List.of(), 0, false));
+    }
+
+    @Test
+    @DisplayName("Gemini 호출이 실패하면 이번 턴에 저장한 업로드 이미지의 참조를 되돌린다.")
+    void fetchChatResponse_ReleasesImage_WhenGeminiFails() throws Exception {
+        // given
+        givenConversation(conversation);
+        givenStoredImage();
+        when(geminiClient.generateContent(eq(GeminiUseCase.CHAT), any(GeminiRequestWriter.class)))
+                .thenThrow(new GeminiApiException());
+
+        // when & then
+        assertThatThrownBy(() -> geminiChatService.fetchChatResponse(USER_ID, LEVEL, CONVERSATION_ID, "Look!",
+                imageFile()))
+                .isInstanceOf(GeminiApiException.class);
+        verify(contentAddressedFileStore).release(IMAGE_KEY);
+        verify(chatConversationService, never()).appendMessages(anyString(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("메시지 추가 충돌이 반복되어 저장을 포기하면 업로드 이미지의 참조를 되돌린다.")
+    void fetchChatResponse_ReleasesImage_WhenAppendGivesUp() throws Exception {
+        // given
+        givenConversation(conversation);
+        givenStoredImage();
+        when(geminiClient.generateContent(eq(GeminiUseCase.CHAT), any(GeminiRequestWriter.class)))
+                .thenReturn(new GeminiResponse("Nice photo!", "STOP", null));
+        when(chatConversationService.appendMessages(eq(CONVERSATION_ID), anyLong(), any())).thenReturn(false);
+        when(chatConversationService.fetchLatestById(CONVERSATION_ID)).thenReturn(conversation);
+
+        // when & then
+        assertThatThrownBy(() -> geminiChatService.fetchChatResponse(USER_ID, LEVEL, CONVERSATION_ID, "Look!",
+                imageFile()))
+                .isInstanceOf(ChatConversationConflictException.class);
+        verify(contentAddressedFileStore).release(IMAGE_KEY);
+    }
+
+    @Test
+    @DisplayName("스트리밍 응답을 받지 못하면 스트림 처리 스레드가 업로드 이미지의 참조를 되돌린다.")
+    void streamChatResponse_ReleasesImage_WhenGeminiStreamFails() throws Exception {
+        // given
+        givenConversation(conversation);
+        givenStoredImage();
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(chatStreamExecutor).execute(any());
+        when(geminiClient.streamGenerateContent(any(), any())).thenThrow(new GeminiApiException());
+
+        // when
+        geminiChatService.streamChatResponse(USER_ID, LEVEL, CONVERSATION_ID, "Look!", imageFile());
+
+        // then
+        verify(contentAddressedFileStore).release(IMAGE_KEY);
+        verify(chatConversationService, never()).appendMessages(anyString(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("스트림 처리 작업을 맡기지 못하면 요청 스레드가 업로드 이미지의 참조를 되돌린다.")
+    void streamChatResponse_ReleasesImage_WhenExecutorRejects() throws Exception {
+        // given
+        givenConversation(conversation);
+        givenStoredImage();
+        doAnswer(invocation -> {
+            throw new IllegalStateException("rejected");
+        }).when(chatStreamExecutor).execute(any());
+
+        // when & then
+        assertThatThrownBy(() -> geminiChatService.streamChatResponse(USER_ID, LEVEL, CONVERSATION_ID, "Look!",
+                imageFile()))
+                .isInstanceOf(IllegalStateException.class);
+        verify(contentAddressedFileStore, times(1)).release(IMAGE_KEY);
+    }
+
+    @Test
+    @DisplayName("대화를 읽은 뒤 version이 바뀌면 Gemini를 다시 호출하지 않고 최신 version 뒤에 메시지를 다시 추가한다.")
+    void fetchChatResponse_VersionMoved_RetriesAppendWithoutCallingGeminiAgain() {
+        // given
+        givenConversation(conversation);
+        givenGeminiReply("That sounds fun!");
+        List<List<ChatMessage>> appended = givenAppendConflictsOnce(1L);
+
+        ChatConversation latest = conversationOf(3L);
+        latest.addMessage("ai", "Hello! What did you do today?");
+        latest.addMessage("user", "I went to the zoo.");
+        latest.addMessage("ai", "Which animal did you like?");
+        when(chatConversationService.fetchLatestById(CONVERSATION_ID)).thenReturn(latest);
+
+        // when
+        ChatResponse response = geminiChatService.fetchChatResponse(USER_ID, LEVEL, CONVERSATION_ID,
+                "I played soccer.", null);
+
+        // then
+        assertThat(response.reply()).isEqualTo("That sounds fun!");
+        verify(geminiClient, times(1)).generateContent(eq(GeminiUseCase.CHAT), any(GeminiRequestWriter.class));
+        verify(chatConversationService).appendMessages(eq(CONVERSATION_ID), eq(3L), any());
+        verify(chatConversationService, never()).fetchMessages(any(), anyLong(), anyLong());
+        assertThat(appended.get(1)).extracting(ChatMessage::getText)
+                .containsExactly("I played soccer.", "That sounds fun!");
+        assertThat(meterRegistry.counter("chat.conversation.append.conflicts").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 요청이 첫 인사말을 먼저 저장했으면 재추가할 때 이번 턴의 인사말은 빼고 저장한다.")
+    void fetchChatResponse_GreetingStoredConcurrently_DoesNotStoreSecondGreeting() {
+        // given
+        ChatConversation empty = conversationOf(1L);
+        givenConversation(empty);
+        when(userReadService.fetchById(USER_ID)).thenReturn(new User("Alice", "alice@test.com", null, Role.USER));
+        givenGeminiReply("Nice to meet you!");
+        List<List<ChatMessage>> appended = givenAppendConflictsOnce(1L);
+
+        ChatConversation latest = conversationOf(2L);
+        latest.addMessage("ai", "Hello, Alice! I'm your English friend.");
+        when(chatConversationService.fetchLatestById(CONVERSATION_ID)).thenReturn(latest);
+
+        // when
+        geminiChatService.fetchChatResponse(USER_ID, LEVEL, CONVERSATION_ID, "Hi!", null);
+
+        // then
+        verify(geminiClient, times(1)).generateContent(eq(GeminiUseCase.CHAT), any(GeminiRequestWriter.class));
+        assertThat(appended.get(0)).extracting(ChatMessage::getSender).containsExactly("ai", "user", "ai");
+        assertThat(appended.get(1)).extracting(ChatMessage::getText).containsExactly("Hi!", "Nice to meet you!");
+    }
+
+    private ChatConversation conversationOf(long version) {
+        ChatConversation chatConversation = new ChatConversation(USER_ID, LEVEL);
+        ReflectionTestUtils.setField(chatConversation, "id", CONVERSATION_ID);
+        ReflectionTestUtils.setField(chatConversation, "version", version);
+        return chatConversation;
+    }
+
+    private void givenConversation(ChatConversation chatConversation) {
+        when(chatConversationService.fetchById(CONVERSATION_ID)).thenReturn(chatConversation);
+    }
+
+    private void givenStoredImage() throws Exception {
+        when(contentAddressedFileStore.store(any(), eq(".png")))
+                .thenReturn(new StoredFile("abcdef", IMAGE_KEY, 3, false));
+        when(contentAddressedFileStore.resolveVariant(eq(IMAGE_KEY), anyString())).thenReturn(Path.of("derived.jpg"));
+        when(contentAddressedFileStore.resolve(IMAGE_KEY)).thenReturn(Path.of("original.png"));
+        when(chatImagePreprocessor.preprocess(Path.of("original.png"), "image/png"))
+                .thenReturn(new ChatImage(null, "image/png", false));
+    }
+
+    private void givenGeminiReply(String reply) {
+        when(geminiClient.generateContent(eq(GeminiUseCase.CHAT), any(GeminiRequestWriter.class)))
+                .thenReturn(new GeminiResponse(reply, "STOP", null));
+    }
+
+    /**
+     * 읽은 version으로는 추가에 실패하고 최신 version으로는 성공하도록 설정하고, 시도마다 추가하려던 메시지를 기록
+     */
+    private List<List<ChatMessage>> givenAppendConflictsOnce(long readVersion) {
+        List<List<ChatMessage>> appended = new ArrayList<>();
+        when(chatConversationService.appendMessages(eq(CONVERSATION_ID), anyLong(), any())).thenAnswer(invocation -> {
+            appended.add(List.copyOf(invocation.<List<ChatMessage>>getArgument(2)));
+            return invocation.<Long>getArgument(1) != readVersion;
+        });
+        return appended;
+    }
+
+    private MockMultipartFile imageFile() {
+        return new MockMultipartFile("imageFile", "photo.png", "image/png", new byte[]{1, 2, 3});
+    }
+
+}
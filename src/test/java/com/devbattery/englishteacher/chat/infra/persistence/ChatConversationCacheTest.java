@@ -0,0 +1,99 @@
+package com.devbattery.englishteacher.chat.infra.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.devbattery.englishteacher.chat.domain.ChatConversation;
+import com.devbattery.englishteacher.common.config.ChatConversationCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ChatConversationCacheTest {
+
+    private final ChatConversationCache cache = cacheOf(true);
+
+    @Test
+    @DisplayName("조회할 때마다 새 엔티티를 돌려주므로 호출자가 메시지를 추가해도 캐시된 문서는 바뀌지 않는다")
+    void get_ReturnsIndependentCopies() {
+        // given
+        ChatConversation conversation = conversationOf("conversation", 0);
+        conversation.addMessage("ai", "Hello!");
+        cache.put(conversation);
+
+        // when
+        ChatConversation first = cache.get("conversation").orElseThrow();
+        first.addMessage("user", "not persisted");
+        ChatConversation second = cache.get("conversation").orElseThrow();
+
+        // then
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getMessages()).extracting("text").containsExactly("Hello!");
+        assertThat(second.getMessages().get(0).getTimestamp()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("이미 캐시된 문서보다 version이 낮은 문서로는 덮어쓰지 않는다")
+    void put_IgnoresOlderVersion() {
+        // given
+        ChatConversation newer = conversationOf("conversation", 3);
+        newer.addMessage("ai", "newer");
+        ChatConversation older = conversationOf("conversation", 2);
+        older.addMessage("ai", "older");
+        cache.put(newer);
+
+        // when
+        cache.put(older);
+
+        // then
+        ChatConversation cached = cache.get("conversation").orElseThrow();
+        assertThat(cached.getVersion()).isEqualTo(3);
+        assertThat(cached.getMessages()).extracting("text").containsExactly("newer");
+    }
+
+    @Test
+    @DisplayName("Redis 공유 없이 단일 인스턴스로 명시하지 않으면 다른 인스턴스의 쓰기를 놓치지 않도록 로컬 캐시를 쓰지 않는다")
+    void get_WithoutRedisOrLocalOnly_DoesNotCache() {
+        // given
+        ChatConversationCache multiInstanceCache = cacheOf(false);
+        multiInstanceCache.put(conversationOf("conversation", 1));
+
+        // when & then
+        assertThat(multiInstanceCache.get("conversation")).isEmpty();
+    }
+
+    private ChatConversationCache cacheOf(boolean localOnly) {
+        return new ChatConversationCache(mongoConverter(), mock(StringRedisTemplate.class),
+                new ChatConversationCacheProperties(true, 100, Duration.ofMinutes(10), false, localOnly,
+                        Duration.ofMinutes(30)),
+                new SimpleMeterRegistry());
+    }
+
+    private ChatConversation conversationOf(String id, long version) {
+        ChatConversation conversation = new ChatConversation(1L, "elementary");
+        ReflectionTestUtils.setField(conversation, "id", id);
+        ReflectionTestUtils.setField(conversation, "version", version);
+        return conversation;
+    }
+
+    private static MappingMongoConverter mongoConverter() {
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.devbattery.englishteacher.common.gemini;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.devbattery.englishteacher.common.config.GeminiClientProperties.BulkheadLimits;
+import com.devbattery.englishteacher.common.exception.GeminiApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GeminiBulkheadTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("동시 호출 제한을 넘으면 대기 시간 후 거절하고 거절 수를 기록한다")
+    void acquire_RejectsWhenSaturated() {
+        // given
+        GeminiBulkhead bulkhead = new GeminiBulkhead(GeminiUseCase.TRANSLATION,
+                new BulkheadLimits(1, 1, Duration.ofMillis(10)), meterRegistry);
+        bulkhead.acquire();
+
+        // when & then
+        assertThatThrownBy(bulkhead::acquire).isInstanceOf(GeminiApiException.class);
+        assertThat(meterRegistry.get("gemini.bulkhead.rejected").tag("use_case", "translation").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("gemini.bulkhead.queue.depth").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 기다리지 않고 즉시 거절한다")
+    void acquire_FailsFastWhenQueueIsFull() {
+        // given
+        GeminiBulkhead bulkhead = new GeminiBulkhead(GeminiUseCase.ARTICLE,
+                new BulkheadLimits(1, 0, Duration.ofSeconds(30)), meterRegistry);
+        bulkhead.acquire();
+
+        // when
+        long startNanos = System.nanoTime();
+        assertThatThrownBy(bulkhead::acquire).isInstanceOf(GeminiApiException.class);
+
+        // then
+        assertThat(Duration.ofNanos(System.nanoTime() - startNanos)).isLessThan(Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("반납된 허용은 다음 호출이 다시 사용할 수 있다")
+    void release_MakesPermitAvailable() {
+        // given
+        GeminiBulkhead bulkhead = new GeminiBulkhead(GeminiUseCase.CHAT,
+                new BulkheadLimits(1, 0, Duration.ZERO), meterRegistry);
+        bulkhead.acquire();
+
+        // when
+        bulkhead.release();
+        bulkhead.acquire();
+
+        // then
+        assertThat(meterRegistry.get("gemini.bulkhead.available").gauge().value()).isZero();
+    }
+
+}
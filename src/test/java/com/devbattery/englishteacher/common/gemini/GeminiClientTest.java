@@ -0,0 +1,133 @@
+package com.devbattery.englishteacher.common.gemini;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.devbattery.englishteacher.acceptance.util.GeminiStubServer;
+import com.devbattery.englishteacher.acceptance.util.GeminiStubServer.Behavior;
+import com.devbattery.englishteacher.acceptance.util.GeminiStubServer.LatencyDistribution;
+import com.devbattery.englishteacher.common.config.GeminiClientProperties;
+import com.devbattery.englishteacher.common.config.GeminiClientProperties.BulkheadLimits;
+import com.devbattery.englishteacher.common.config.GeminiClientProperties.Timeouts;
+import com.devbattery.englishteacher.common.exception.GeminiApiException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+class GeminiClientTest {
+
+    private static final String REQUEST_BODY = "{\"contents\":[]}";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private GeminiStubServer stubServer;
+    private GeminiClient geminiClient;
+
+    @AfterEach
+    void tearDown() {
+        if (geminiClient != null) {
+            geminiClient.shutdown();
+        }
+        if (stubServer != null) {
+            stubServer.close();
+        }
+    }
+
+    @Test
+    @DisplayName("응답 헤더가 읽기 제한 시간 안에 오지 않으면 GeminiApiException으로 실패하고 timeout으로 기록한다")
+    void generateContent_FailsOnReadTimeout() {
+        // given
+        start(Duration.ofSeconds(3),
+                new Timeouts(Duration.ofSeconds(1), Duration.ofMillis(200), Duration.ofSeconds(5)));
+
+        // when
+        long startNanos = System.nanoTime();
+        assertThatThrownBy(() -> geminiClient.generateContent(GeminiUseCase.CHAT, REQUEST_BODY))
+                .isInstanceOf(GeminiApiException.class);
+
+        // then
+        assertThat(Duration.ofNanos(System.nanoTime() - startNanos)).isLessThan(Duration.ofSeconds(2));
+        assertThat(timeoutCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("응답 본문이 전체 제한 시간 안에 끝나지 않으면 스트림을 끊고 GeminiApiException으로 실패한다")
+    void streamGenerateContent_FailsOnDeadline() {
+        // given (헤더는 1초 뒤, 본문은 2초에 걸쳐 도착)
+        start(Duration.ofSeconds(2),
+                new Timeouts(Duration.ofSeconds(1), Duration.ofSeconds(5), Duration.ofMillis(1300)));
+
+        // when
+        long startNanos = System.nanoTime();
+        assertThatThrownBy(() -> geminiClient.streamGenerateContent(
+                generator -> {
+                    generator.writeStartObject();
+                    generator.writeEndObject();
+                }, line -> {
+                }))
+                .isInstanceOf(GeminiApiException.class);
+
+        // then
+        assertThat(Duration.ofNanos(System.nanoTime() - startNanos)).isLessThan(Duration.ofMillis(1800));
+        assertThat(timeoutCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("gemini.client.requests.active").tag("use_case", "chat-stream").gauge().value())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("같은 API 키를 쓰는 용도들은 용도별 제한과 별개로 키별 동시 호출 제한을 함께 나눠 쓴다")
+    void generateContent_SharesApiKeyBulkheadAcrossUseCases() throws Exception {
+        // given (chat 키는 동시 1건, 용도별 제한은 넉넉하게)
+        GeminiClientProperties clientProperties = propertiesOf(
+                new Timeouts(Duration.ofSeconds(1), Duration.ofSeconds(5), Duration.ofSeconds(5)));
+        clientProperties.setApiKeyBulkheads(Map.of("chat", new BulkheadLimits(1, 0, Duration.ZERO)));
+        start(Duration.ofSeconds(1), clientProperties);
+        CompletableFuture<GeminiResponse> chatCall = CompletableFuture.supplyAsync(
+                () -> geminiClient.generateContent(GeminiUseCase.CHAT, REQUEST_BODY));
+        Thread.sleep(200);
+
+        // when & then
+        assertThatThrownBy(() -> geminiClient.generateContent(GeminiUseCase.CHAT_SUMMARY, REQUEST_BODY))
+                .isInstanceOf(GeminiApiException.class);
+        assertThat(chatCall.get(5, TimeUnit.SECONDS).text()).isNotBlank();
+        assertThat(meterRegistry.get("gemini.bulkhead.rejected").tag("api_key", "chat").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("gemini.bulkhead.available").tag("use_case", "chat-summary").gauge().value())
+                .isEqualTo(new BulkheadLimits().getMaxConcurrentCalls());
+    }
+
+    private void start(Duration latency, Timeouts timeouts) {
+        start(latency, propertiesOf(timeouts));
+    }
+
+    private void start(Duration latency, GeminiClientProperties clientProperties) {
+        stubServer = GeminiStubServer.start(Behavior.of(LatencyDistribution.fixed(latency)));
+
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("gemini.api.key-chat", GeminiStubServer.CHAT_KEY)
+                .withProperty("gemini.api.key-article", GeminiStubServer.ARTICLE_KEY)
+                .withProperty("gemini.api.key-translation", GeminiStubServer.TRANSLATION_KEY);
+        ObjectMapper objectMapper = new ObjectMapper();
+        geminiClient = new GeminiClient(clientProperties, meterRegistry, objectMapper,
+                new GeminiResponseParser(objectMapper), environment, stubServer.apiTemplate());
+    }
+
+    private GeminiClientProperties propertiesOf(Timeouts timeouts) {
+        GeminiClientProperties clientProperties = new GeminiClientProperties();
+        clientProperties.setDefaults(timeouts);
+        return clientProperties;
+    }
+
+    private long timeoutCount() {
+        return meterRegistry.get("gemini.client.requests").tag("outcome", "timeout").timers().stream()
+                .mapToLong(timer -> timer.count())
+                .sum();
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.devbattery.englishteacher.common.gemini;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GeminiResponseParserTest {
+
+    private final GeminiResponseParser parser = new GeminiResponseParser(new ObjectMapper());
+
+    @Test
+    @DisplayName("첫 candidate의 첫 text, finishReason, usageMetadata만 추출하고 나머지 필드는 건너뛴다")
+    void parse_ExtractsTextFinishReasonAndUsage() {
+        // given
+        String json = """
+                {
+                  "candidates": [
+                    {
+                      "content": {"role": "model", "parts": [{"text": "Hello"}, {"text": "ignored"}]},
+                      "safetyRatings": [{"category": "HARM", "probability": "NEGLIGIBLE"}],
+                      "finishReason": "STOP"
+                    },
+                    {"content": {"parts": [{"text": "second"}]}, "finishReason": "MAX_TOKENS"}
+                  ],
+                  "usageMetadata": {"promptTokenCount": 12, "candidatesTokenCount": 3, "totalTokenCount": 15},
+                  "modelVersion": "gemini"
+                }
+                """;
+
+        // when
+        GeminiResponse response = parser.parse(json);
+
+        // then
+        assertThat(response.text()).isEqualTo("Hello");
+        assertThat(response.finishReason()).isEqualTo("STOP");
+        assertThat(response.usage()).isEqualTo(new GeminiUsage(12, 3, 15, 0));
+    }
+
+    @Test
+    @DisplayName("text가 없거나 JSON이 깨진 응답은 text 없이 반환한다")
+    void parse_ReturnsEmptyTextForUnexpectedResponse() {
+        // when
+        GeminiResponse blocked = parser.parse("{\"candidates\": [{\"finishReason\": \"SAFETY\"}]}");
+        GeminiResponse broken = parser.parse("{\"candidates\": [");
+
+        // then
+        assertThat(blocked.hasText()).isFalse();
+        assertThat(blocked.finishReason()).isEqualTo("SAFETY");
+        assertThat(broken).isEqualTo(GeminiResponse.EMPTY);
+    }
+
+}
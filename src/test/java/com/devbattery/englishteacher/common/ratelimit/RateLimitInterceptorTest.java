@@ -0,0 +1,63 @@
+package com.devbattery.englishteacher.common.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.devbattery.englishteacher.common.config.RateLimitProperties;
+import com.devbattery.englishteacher.common.config.RateLimitProperties.Route;
+import com.devbattery.englishteacher.common.exception.RateLimitExceededException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RateLimitInterceptorTest {
+
+    private final RedisTokenBucketRateLimiter rateLimiter = mock(RedisTokenBucketRateLimiter.class);
+    private final RateLimitBypass rateLimitBypass = mock(RateLimitBypass.class);
+    private final RateLimitInterceptor interceptor = new RateLimitInterceptor(
+            new RateLimitProperties(true, Map.of("chat",
+                    new Route("POST", List.of("/api/chat/send"), 10, 10, Duration.ofMinutes(1)))),
+            rateLimiter, List.of(rateLimitBypass));
+
+    @Test
+    @DisplayName("제외 대상 요청(완료된 Idempotency-Key 재전송)은 토큰을 쓰지 않고 통과한다")
+    void preHandle_BypassedRequest_DoesNotAcquireToken() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/chat/send");
+        when(rateLimitBypass.bypasses("chat", "/api/chat/send", request)).thenReturn(true);
+
+        // when
+        boolean proceed = interceptor.preHandle(request, new MockHttpServletResponse(), new Object());
+
+        // then
+        assertThat(proceed).isTrue();
+        verifyNoInteractions(rateLimiter);
+    }
+
+    @Test
+    @DisplayName("제외 대상이 아닌 요청은 토큰을 쓰고, 버킷이 비었으면 거절한다")
+    void preHandle_RegularRequest_AcquiresToken() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/chat/send");
+        when(rateLimitBypass.bypasses("chat", "/api/chat/send", request)).thenReturn(false);
+        when(rateLimiter.tryAcquire(eq("chat"), anyString(), any(Route.class)))
+                .thenReturn(RateLimitDecision.rejected(6_000));
+
+        // when & then
+        assertThatThrownBy(() -> interceptor.preHandle(request, new MockHttpServletResponse(), new Object()))
+                .isInstanceOf(RateLimitExceededException.class);
+        verify(rateLimiter).tryAcquire(eq("chat"), anyString(), any(Route.class));
+    }
+
+}
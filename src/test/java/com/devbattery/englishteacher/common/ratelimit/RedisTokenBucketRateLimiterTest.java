@@ -0,0 +1,62 @@
+package com.devbattery.englishteacher.common.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.devbattery.englishteacher.common.config.RateLimitProperties.Route;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+class RedisTokenBucketRateLimiterTest {
+
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    private final RedisTokenBucketRateLimiter rateLimiter = new RedisTokenBucketRateLimiter(stringRedisTemplate);
+    private final Route route = new Route("POST", List.of("/api/chat/send"), 1, 1, Duration.ofMinutes(1));
+
+    @Test
+    @DisplayName("Redis에서 거절된 버킷은 다음 토큰이 생길 때까지 Redis를 호출하지 않고 거절한다")
+    void tryAcquire_RejectsLocallyUntilRetryAfter() {
+        // given
+        when(stringRedisTemplate.execute(tokenBucketScript(), anyList(), anyString(), anyString()))
+                .thenReturn(List.of(0L, 60_000L));
+
+        // when
+        RateLimitDecision first = rateLimiter.tryAcquire("chat", "user:1", route);
+        RateLimitDecision second = rateLimiter.tryAcquire("chat", "user:1", route);
+
+        // then
+        assertThat(first.allowed()).isFalse();
+        assertThat(second.allowed()).isFalse();
+        assertThat(second.retryAfterMillis()).isPositive().isLessThanOrEqualTo(60_000L);
+        verify(stringRedisTemplate, times(1)).execute(tokenBucketScript(), anyList(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Redis 호출이 실패하면 요청을 허용한다")
+    void tryAcquire_AllowsWhenRedisFails() {
+        // given
+        when(stringRedisTemplate.execute(tokenBucketScript(), anyList(), anyString(), anyString()))
+                .thenThrow(new IllegalStateException("connection refused"));
+
+        // when
+        RateLimitDecision decision = rateLimiter.tryAcquire("translation", "user:2", route);
+
+        // then
+        assertThat(decision.allowed()).isTrue();
+    }
+
+    private static RedisScript<List<Long>> tokenBucketScript() {
+        return any();
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.devbattery.englishteacher.common.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.devbattery.englishteacher.common.config.FileStorageProperties;
+import com.devbattery.englishteacher.common.exception.FileStorageException;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+class ContentAddressedFileStoreTest {
+
+    private static final byte[] CONTENT = "photo".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    private Path rootDir;
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private ContentAddressedFileStore fileStore;
+    private String hash;
+    private String key;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        fileStore = new ContentAddressedFileStore(mongoTemplate, new FileStorageProperties(rootDir.toString(),
+                "/uploads/"));
+        hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(CONTENT));
+        key = hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash + ".png";
+    }
+
+    @Test
+    @DisplayName("새 내용은 최종 위치로 옮기고 참조 수를 늘린 기록을 그대로 둔다")
+    void store_MovesNewContentIntoPlace() {
+        // given
+        StoredObject inserted = storedObject(1);
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(StoredObject.class))).thenReturn(inserted);
+
+        // when
+        StoredFile storedFile = fileStore.store(new ByteArrayInputStream(CONTENT), ".png");
+
+        // then
+        assertThat(storedFile.key()).isEqualTo(key);
+        assertThat(storedFile.deduplicated()).isFalse();
+        assertThat(rootDir.resolve(key)).hasBinaryContent(CONTENT);
+        verify(mongoTemplate, never()).remove(any(Query.class), eq(StoredObject.class));
+    }
+
+    @Test
+    @DisplayName("파일을 최종 위치에 두지 못하면 늘린 참조 수를 되돌리고, 이 호출이 만든 기록이면 삭제한다")
+    void store_UndoesReferenceWhenFileCannotBePlaced() throws Exception {
+        // given
+        Files.writeString(rootDir.resolve(hash.substring(0, 2)), "not a directory");
+        StoredObject inserted = storedObject(1);
+        StoredObject undone = storedObject(0);
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(StoredObject.class))).thenReturn(inserted, undone);
+
+        // when & then
+        assertThatThrownBy(() -> fileStore.store(new ByteArrayInputStream(CONTENT), ".png"))
+                .isInstanceOf(FileStorageException.class);
+        verify(mongoTemplate, times(2)).findAndModify(any(Query.class), any(Update.class),
+                any(FindAndModifyOptions.class), eq(StoredObject.class));
+        verify(mongoTemplate).remove(any(Query.class), eq(StoredObject.class));
+        try (var incoming = Files.list(rootDir.resolve(".incoming"))) {
+            assertThat(incoming).isEmpty();
+        }
+    }
+
+    private StoredObject storedObject(long refCount) {
+        StoredObject storedObject = mock(StoredObject.class);
+        when(storedObject.getKey()).thenReturn(key);
+        when(storedObject.getRefCount()).thenReturn(refCount);
+        return storedObject;
+    }
+
+}
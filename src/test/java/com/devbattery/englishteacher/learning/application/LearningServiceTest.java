@@ -3,12 +3,15 @@ package com.devbattery.englishteacher.learning.application;
 
 import com.devbattery.englishteacher.learning.domain.LearningContent;
 import com.devbattery.englishteacher.learning.domain.repository.LearningContentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
@@ -45,6 +48,9 @@ class LearningServiceTest {
     @Mock
     private RLock rLock;
 
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     private final String level = "native";
     private final LocalDate today = LocalDate.now();
 
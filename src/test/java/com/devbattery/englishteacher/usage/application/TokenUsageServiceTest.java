@@ -0,0 +1,58 @@
+package com.devbattery.englishteacher.usage.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.devbattery.englishteacher.common.config.TokenBudgetProperties;
+import com.devbattery.englishteacher.usage.domain.TokenBudgetStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+class TokenUsageServiceTest {
+
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class);
+    private final TokenBudgetProperties budgetProperties = new TokenBudgetProperties();
+    private final TokenUsageService tokenUsageService = new TokenUsageService(stringRedisTemplate, budgetProperties);
+
+    @BeforeEach
+    void setUp() {
+        budgetProperties.setDailyLimit(1_000);
+        budgetProperties.setDegradeRatio(0.8);
+        when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+    }
+
+    @Test
+    @DisplayName("오늘 사용량이 한도의 degradeRatio를 넘으면 DEGRADED, 한도에 도달하면 EXHAUSTED를 반환한다")
+    void checkBudget_DegradesBeforeHardLimit() {
+        // given
+        when(hashOperations.get(anyString(), eq("total"))).thenReturn("700", "800", "1000");
+
+        // when & then
+        assertThat(tokenUsageService.checkBudget(1L)).isEqualTo(TokenBudgetStatus.NORMAL);
+        assertThat(tokenUsageService.checkBudget(1L)).isEqualTo(TokenBudgetStatus.DEGRADED);
+        assertThat(tokenUsageService.checkBudget(1L)).isEqualTo(TokenBudgetStatus.EXHAUSTED);
+    }
+
+    @Test
+    @DisplayName("사용자별 한도가 있으면 기본 한도 대신 사용하고, Redis 조회가 실패하면 제한하지 않는다")
+    void checkBudget_UsesUserLimitAndFailsOpen() {
+        // given
+        budgetProperties.getUserLimits().put(2L, 10_000L);
+        when(hashOperations.get(anyString(), eq("total")))
+                .thenReturn("5000")
+                .thenThrow(new IllegalStateException("connection refused"));
+
+        // when & then
+        assertThat(tokenUsageService.checkBudget(2L)).isEqualTo(TokenBudgetStatus.NORMAL);
+        assertThat(tokenUsageService.checkBudget(2L)).isEqualTo(TokenBudgetStatus.NORMAL);
+    }
+
+}
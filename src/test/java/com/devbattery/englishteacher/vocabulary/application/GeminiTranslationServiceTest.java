@@ -0,0 +1,72 @@
+package com.devbattery.englishteacher.vocabulary.application;
+
+import com.devbattery.englishteacher.common.exception.TokenBudgetExceededException;
+import com.devbattery.englishteacher.common.gemini.GeminiClient;
+import com.devbattery.englishteacher.common.gemini.GeminiResponse;
+import com.devbattery.englishteacher.common.gemini.GeminiUseCase;
+import com.devbattery.englishteacher.usage.application.TokenUsageService;
+import com.devbattery.englishteacher.usage.domain.TokenBudgetStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GeminiTranslationServiceTest {
+
+    private static final Long USER_ID = 1L;
+
+    @InjectMocks
+    private GeminiTranslationService geminiTranslationService;
+
+    @Mock
+    private GeminiClient geminiClient;
+
+    @Mock
+    private TokenUsageService tokenUsageService;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("하루 토큰 예산을 모두 쓴 사용자의 번역 요청은 Gemini를 호출하지 않고 거절한다.")
+    void translateToKorean_BudgetExhausted_Rejects() {
+        // given
+        when(tokenUsageService.checkBudget(USER_ID)).thenReturn(TokenBudgetStatus.EXHAUSTED);
+
+        // when & then
+        assertThatThrownBy(() -> geminiTranslationService.translateToKorean(USER_ID, "break a leg"))
+                .isInstanceOf(TokenBudgetExceededException.class);
+        verifyNoInteractions(geminiClient);
+    }
+
+    @Test
+    @DisplayName("예산이 제한 상태여도 번역은 그대로 처리하고 사용량을 기록한다.")
+    void translateToKorean_BudgetDegraded_Translates() {
+        // given
+        GeminiResponse response = new GeminiResponse(" 행운을 빌어 ", "STOP", null);
+        when(tokenUsageService.checkBudget(USER_ID)).thenReturn(TokenBudgetStatus.DEGRADED);
+        when(geminiClient.generateContent(eq(GeminiUseCase.TRANSLATION), anyString())).thenReturn(response);
+
+        // when
+        String translation = geminiTranslationService.translateToKorean(USER_ID, "break a leg");
+
+        // then
+        assertThat(translation).isEqualTo("행운을 빌어");
+        verify(tokenUsageService).record(eq(USER_ID), any());
+    }
+
+}
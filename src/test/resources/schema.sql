@@ -45,3 +45,18 @@ CREATE TABLE `USER_VOCABULARY`
 
 ALTER TABLE USER_VOCABULARY
     ADD COLUMN is_memorized BOOLEAN NOT NULL DEFAULT FALSE;
+
+CREATE TABLE `USER_TOKEN_USAGE`
+(
+    `user_id`       BIGINT NOT NULL, -- 0: 사용자에게 귀속되지 않는 공용 콘텐츠
+    `usage_date`    DATE   NOT NULL,
+    `prompt_tokens` BIGINT NOT NULL DEFAULT 0,
+    `output_tokens` BIGINT NOT NULL DEFAULT 0,
+    `cached_tokens` BIGINT NOT NULL DEFAULT 0,
+    `total_tokens`  BIGINT NOT NULL DEFAULT 0,
+    `request_count` BIGINT NOT NULL DEFAULT 0,
+    `updated_at`    DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
+    PRIMARY KEY (`user_id`, `usage_date`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_0900_ai_ci;